@@ -0,0 +1,61 @@
+package com.plantrack.benchmarks;
+
+import com.plantrack.backend.dto.DashboardStatsDTO;
+import com.plantrack.backend.dto.DepartmentalInsightsDTO;
+import com.plantrack.backend.dto.GamifiedVelocityDTO;
+import com.plantrack.backend.dto.LeaderboardEntryDTO;
+import com.plantrack.backend.service.AnalyticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the analytics read paths. Run with {@code -prof gc} for allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class AnalyticsBenchmark {
+
+    @Benchmark
+    public List<LeaderboardEntryDTO> leaderboard(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getLeaderboard("OVERALL", null, 10);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryDTO> departmentLeaderboard(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getLeaderboard("OVERALL", state.nextDepartment(), 10);
+    }
+
+    @Benchmark
+    public GamifiedVelocityDTO gamifiedVelocity(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getGamifiedVelocity(state.nextUserId(), null);
+    }
+
+    @Benchmark
+    public Page<GamifiedVelocityDTO> gamifiedVelocityPage(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getGamifiedVelocityPage(null, null, null, null, null, null,
+                null, null, null, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<DepartmentalInsightsDTO> departmentalInsights(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getDepartmentalInsights();
+    }
+
+    @Benchmark
+    public DashboardStatsDTO dashboardStats(PlanTrackState state) {
+        return state.bean(AnalyticsService.class).getDashboardStats();
+    }
+}
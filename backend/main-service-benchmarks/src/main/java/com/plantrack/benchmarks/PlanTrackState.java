@@ -0,0 +1,88 @@
+package com.plantrack.benchmarks;
+
+import com.plantrack.backend.BackendApplication;
+import com.plantrack.backend.analytics.AnalyticsCache;
+import com.plantrack.backend.analytics.DashboardStatsSnapshot;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * One main-service application context per trial, on an embedded H2 database loaded with a
+ * {@link SyntheticDataSet}. With {@code cache=cold} (the default) every invocation starts from
+ * empty analytics caches, so the numbers are for the computation rather than a cache hit.
+ */
+@State(Scope.Benchmark)
+public class PlanTrackState {
+
+    @Param("10000")
+    public int users;
+
+    @Param("50000")
+    public int plans;
+
+    @Param("1000000")
+    public int initiatives;
+
+    @Param("2")
+    public int assigneeFanOut;
+
+    @Param("42")
+    public long seed;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private AnalyticsCache analyticsCache;
+    private DashboardStatsSnapshot dashboardStatsSnapshot;
+    private long nextUserId = 1;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("benchmark")
+                .logStartupInfo(false)
+                .run();
+        new SyntheticDataSet(users, plans, initiatives, assigneeFanOut, seed).load(context.getBean(JdbcTemplate.class));
+        analyticsCache = context.getBean(AnalyticsCache.class);
+        dashboardStatsSnapshot = context.getBean(DashboardStatsSnapshot.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCaches() {
+        if ("cold".equals(cache)) {
+            analyticsCache.clear();
+            dashboardStatsSnapshot.invalidate();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /** Walks the user IDs in a fixed order so per-user benchmarks do not keep hitting one row */
+    public long nextUserId() {
+        long userId = nextUserId;
+        nextUserId = nextUserId % users + 1;
+        return userId;
+    }
+
+    /** Walks the departments in a fixed order */
+    public String nextDepartment() {
+        return SyntheticDataSet.DEPARTMENTS[(int) (nextUserId() % SyntheticDataSet.DEPARTMENTS.length)];
+    }
+}
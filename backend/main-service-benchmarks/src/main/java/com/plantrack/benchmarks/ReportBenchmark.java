@@ -0,0 +1,29 @@
+package com.plantrack.benchmarks;
+
+import com.plantrack.backend.model.Report;
+import com.plantrack.backend.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of department report generation. Every invocation stores one report row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ReportBenchmark {
+
+    @Benchmark
+    public Report generateDepartmentReport(PlanTrackState state) {
+        return state.bean(ReportService.class).generateDepartmentReport(state.nextDepartment());
+    }
+}
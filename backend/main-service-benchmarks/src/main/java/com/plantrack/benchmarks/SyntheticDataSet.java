@@ -0,0 +1,198 @@
+package com.plantrack.benchmarks;
+
+import com.plantrack.backend.model.RollupPeriod;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic data for the benchmarks. The same sizes and seed always produce the
+ * same rows (dates are relative to the day of the run, so the analytics time windows see the same
+ * shape). Rows are written with plain JDBC batches, and the per-user counters and completion
+ * rollups are derived in memory the way the nightly rebuild would produce them.
+ */
+public class SyntheticDataSet {
+
+    static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Marketing", "HR", "Finance", "Operations",
+            "Support", "Legal", "Product", "Design", "IT", "Research"
+    };
+
+    private static final String[] PLAN_STATUSES = {"PLANNED", "IN_PROGRESS", "COMPLETED", "ON_HOLD", "CANCELLED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final String[] WORK_STATUSES = {"PLANNED", "IN_PROGRESS", "COMPLETED"};
+    private static final int MILESTONES_PER_PLAN = 4;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int HISTORY_DAYS = 365;
+
+    private final int users;
+    private final int plans;
+    private final int initiatives;
+    private final int assigneeFanOut;
+    private final long seed;
+
+    public SyntheticDataSet(int users, int plans, int initiatives, int assigneeFanOut, long seed) {
+        if (assigneeFanOut > users) {
+            throw new IllegalArgumentException("Assignee fan-out cannot exceed the number of users");
+        }
+        this.users = users;
+        this.plans = plans;
+        this.initiatives = initiatives;
+        this.assigneeFanOut = assigneeFanOut;
+        this.seed = seed;
+    }
+
+    public int getUsers() { return users; }
+
+    public void load(JdbcTemplate jdbc) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDate.now().atStartOfDay();
+
+        // 1. Users, skewed towards the first departments
+        Batch batch = new Batch(jdbc, "INSERT INTO users (user_id, name, email, password, department, role, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)");
+        for (long id = 1; id <= users; id++) {
+            String department = DEPARTMENTS[Math.min(random.nextInt(DEPARTMENTS.length), random.nextInt(DEPARTMENTS.length))];
+            int roll = random.nextInt(100);
+            String role = roll == 0 ? "ADMIN" : roll < 10 ? "MANAGER" : "EMPLOYEE";
+            batch.add(id, "User " + id, "user" + id + "@bench.plantrack.local", "not-a-real-hash",
+                    department, role, "ACTIVE");
+        }
+        batch.flush();
+
+        // 2. Plans, owned by random users
+        batch = new Batch(jdbc, "INSERT INTO plans (plan_id, title, description, priority, status, start_date, end_date, user_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        for (long id = 1; id <= plans; id++) {
+            LocalDateTime start = now.minusDays(random.nextInt(HISTORY_DAYS));
+            batch.add(id, "Plan " + id, "Synthetic plan " + id, PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    PLAN_STATUSES[random.nextInt(PLAN_STATUSES.length)], Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusDays(30 + random.nextInt(180))), 1 + random.nextInt(users));
+        }
+        batch.flush();
+
+        // 3. Milestones, a fixed number per plan
+        long milestones = (long) plans * MILESTONES_PER_PLAN;
+        batch = new Batch(jdbc, "INSERT INTO milestones (milestone_id, title, due_date, completion_percent, status, plan_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)");
+        for (long id = 1; id <= milestones; id++) {
+            batch.add(id, "Milestone " + id, Timestamp.valueOf(now.plusDays(random.nextInt(HISTORY_DAYS) - HISTORY_DAYS / 2)),
+                    (double) random.nextInt(101), WORK_STATUSES[random.nextInt(WORK_STATUSES.length)],
+                    1 + (id - 1) / MILESTONES_PER_PLAN);
+        }
+        batch.flush();
+
+        // 4. Initiatives spread evenly over milestones, each with a fixed number of distinct assignees
+        Map<Long, Map<String, Integer>> counters = new HashMap<>();
+        Map<RollupPeriod, Map<Long, Map<LocalDate, Integer>>> rollups = new EnumMap<>(RollupPeriod.class);
+        Batch initiativeBatch = new Batch(jdbc, "INSERT INTO initiatives (initiative_id, title, description, status, " +
+                "status_changed_at, completed_at, milestone_id) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        Batch assigneeBatch = new Batch(jdbc, "INSERT INTO initiative_assignees (initiative_id, user_id) VALUES (?, ?)");
+        long[] assignees = new long[assigneeFanOut];
+        for (long id = 1; id <= initiatives; id++) {
+            int roll = random.nextInt(100);
+            String status = roll < 45 ? "COMPLETED" : roll < 75 ? "IN_PROGRESS" : "PLANNED";
+            LocalDateTime changedAt = now.minusDays(random.nextInt(HISTORY_DAYS)).plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime completedAt = "COMPLETED".equals(status) ? changedAt : null;
+            initiativeBatch.add(id, "Initiative " + id, "Synthetic initiative " + id, status,
+                    Timestamp.valueOf(changedAt), completedAt != null ? Timestamp.valueOf(completedAt) : null,
+                    1 + (id - 1) % milestones);
+
+            for (int a = 0; a < assigneeFanOut; a++) {
+                long userId;
+                do {
+                    userId = 1 + random.nextInt(users);
+                } while (contains(assignees, a, userId));
+                assignees[a] = userId;
+                // Flush initiatives first so the assignee rows always find their parent
+                if (assigneeBatch.size() + 1 >= BATCH_SIZE) {
+                    initiativeBatch.flush();
+                }
+                assigneeBatch.add(id, userId);
+
+                counters.computeIfAbsent(userId, u -> new HashMap<>()).merge(status, 1, Integer::sum);
+                if (completedAt != null) {
+                    for (RollupPeriod period : RollupPeriod.values()) {
+                        addRollup(rollups, period, userId, period.start(completedAt.toLocalDate()));
+                    }
+                }
+            }
+        }
+        initiativeBatch.flush();
+        assigneeBatch.flush();
+
+        // 5. Counters and rollups, as the nightly rebuild would leave them
+        batch = new Batch(jdbc, "INSERT INTO user_initiative_counters (user_id, status, initiative_count) VALUES (?, ?, ?)");
+        for (Map.Entry<Long, Map<String, Integer>> user : counters.entrySet()) {
+            for (Map.Entry<String, Integer> status : user.getValue().entrySet()) {
+                batch.add(user.getKey(), status.getKey(), status.getValue());
+            }
+        }
+        batch.flush();
+
+        batch = new Batch(jdbc, "INSERT INTO user_completion_rollups (user_id, period_type, period_start, completed_count) " +
+                "VALUES (?, ?, ?, ?)");
+        for (Map.Entry<RollupPeriod, Map<Long, Map<LocalDate, Integer>>> period : rollups.entrySet()) {
+            for (Map.Entry<Long, Map<LocalDate, Integer>> user : period.getValue().entrySet()) {
+                for (Map.Entry<LocalDate, Integer> bucket : user.getValue().entrySet()) {
+                    batch.add(user.getKey(), period.getKey().name(), Date.valueOf(bucket.getKey()), bucket.getValue());
+                }
+            }
+        }
+        batch.flush();
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addRollup(Map<RollupPeriod, Map<Long, Map<LocalDate, Integer>>> rollups,
+                                  RollupPeriod period, long userId, LocalDate start) {
+        rollups.computeIfAbsent(period, p -> new HashMap<>())
+                .computeIfAbsent(userId, u -> new HashMap<>())
+                .merge(start, 1, Integer::sum);
+    }
+
+    private static class Batch {
+        private final JdbcTemplate jdbc;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        Batch(JdbcTemplate jdbc, String sql) {
+            this.jdbc = jdbc;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
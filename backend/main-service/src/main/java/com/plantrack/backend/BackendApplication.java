@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableDiscoveryClient
 @SpringBootApplication
 @EnableJpaAuditing // <--- Enables automatic dates (CreatedDate)
 @EnableFeignClients
+@EnableScheduling // Nightly analytics counter rebuild
 public class BackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,202 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache for analytics results. Each entry is filed under the
+ * {@link CacheScope} it depends on, so a change event evicts only the entries
+ * of the users and departments it touches (plus GLOBAL ones). Entries also
+ * expire after a TTL, since time-windowed figures (weekly velocity, streaks)
+ * move even without writes.
+ */
+@Component
+public class AnalyticsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsCache.class);
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LinkedHashMap<List<Object>, CacheScope> entries;     // key -> scope, in access order
+    private final Map<List<Object>, CachedValue> values = new HashMap<>();
+    private final Map<CacheScope, Set<List<Object>>> keysByScope = new HashMap<>();
+
+    // Bumped on every invalidation; a result computed across one is returned but not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AnalyticsCache(@Value("${plantrack.analytics.cache.max-entries:2000}") int maxEntries,
+                          @Value("${plantrack.analytics.cache.ttl-ms:600000}") long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Cached value for (name, args), computing and storing it on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(CacheScope scope, String name, Supplier<T> loader, Object... args) {
+        List<Object> key = key(name, args);
+        long loadGeneration;
+        synchronized (this) {
+            CacheScope cachedScope = entries.get(key);   // get() also refreshes the LRU position
+            if (cachedScope != null) {
+                CachedValue cached = values.get(key);
+                if (System.currentTimeMillis() - cached.loadedAt < ttlMillis) {
+                    hits.incrementAndGet();
+                    return (T) cached.value;
+                }
+                remove(key, cachedScope);
+                evictions.incrementAndGet();
+            }
+            loadGeneration = generation.get();
+        }
+        misses.incrementAndGet();
+
+        // Compute outside the lock so slow loads do not block hits on other keys
+        T value = loader.get();
+        synchronized (this) {
+            if (loadGeneration == generation.get()) {
+                put(key, scope, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evict the entries for the users and departments touched by a write, and all GLOBAL entries
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(AnalyticsDataChangedEvent event) {
+        if (event.isAffectsEverything()) {
+            clear();
+            return;
+        }
+        List<CacheScope> scopes = new ArrayList<>();
+        scopes.add(CacheScope.global());
+        for (Long userId : event.getUserIds()) {
+            scopes.add(CacheScope.user(userId));
+        }
+        for (String department : event.getDepartments()) {
+            scopes.add(CacheScope.department(department));
+        }
+        int removed = evict(scopes);
+        logger.debug("Analytics cache invalidated: entityType={}, entityId={}, scopes={}, removed={}",
+                event.getEntityType(), event.getEntityId(), scopes.size(), removed);
+    }
+
+    public synchronized int evict(List<CacheScope> scopes) {
+        generation.incrementAndGet();
+        int removed = 0;
+        for (CacheScope scope : scopes) {
+            Set<List<Object>> keys = keysByScope.remove(scope);
+            if (keys != null) {
+                for (List<Object> key : keys) {
+                    entries.remove(key);
+                    values.remove(key);
+                }
+                removed += keys.size();
+            }
+        }
+        invalidations.addAndGet(removed);
+        return removed;
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        values.clear();
+        keysByScope.clear();
+    }
+
+    /** Counters for sizing the cache */
+    public synchronized Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMillis", ttlMillis);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        Map<String, Integer> entriesByScope = new HashMap<>();
+        for (CacheScope scope : entries.values()) {
+            entriesByScope.merge(scope.getType().name(), 1, Integer::sum);
+        }
+        stats.put("entriesByScope", entriesByScope);
+        return stats;
+    }
+
+    private void put(List<Object> key, CacheScope scope, Object value) {
+        CacheScope previous = entries.put(key, scope);
+        if (previous != null && !previous.equals(scope)) {
+            unindex(key, previous);
+        }
+        values.put(key, new CachedValue(value, System.currentTimeMillis()));
+        keysByScope.computeIfAbsent(scope, s -> new HashSet<>()).add(key);
+
+        // Drop least recently used entries beyond the bound
+        while (entries.size() > maxEntries) {
+            Map.Entry<List<Object>, CacheScope> eldest = entries.entrySet().iterator().next();
+            remove(eldest.getKey(), eldest.getValue());
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void remove(List<Object> key, CacheScope scope) {
+        entries.remove(key);
+        values.remove(key);
+        unindex(key, scope);
+    }
+
+    private void unindex(List<Object> key, CacheScope scope) {
+        Set<List<Object>> keys = keysByScope.get(scope);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByScope.remove(scope);
+            }
+        }
+    }
+
+    private static List<Object> key(String name, Object... args) {
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(name);
+        key.addAll(Arrays.asList(args));
+        return key;
+    }
+
+    private static class CachedValue {
+        final Object value;
+        final long loadedAt;
+
+        CachedValue(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
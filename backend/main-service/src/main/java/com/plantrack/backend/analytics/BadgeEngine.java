@@ -0,0 +1,178 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.dto.BadgeDTO;
+import com.plantrack.backend.model.UserBadge;
+import com.plantrack.backend.repository.UserBadgeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+/**
+ * Evaluates every badge rule for every user in one pass over a {@link RankingTable}.
+ * Department aggregates are computed once up front. Evaluation only reads: first-time
+ * awards are stored by {@link #recordAwards}, which the badge award job runs, so
+ * {@link BadgeDTO#getEarnedDate()} is the date a badge was first recorded (now, until then).
+ */
+@Component
+public class BadgeEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(BadgeEngine.class);
+
+    private static final List<Rule> RULES = Arrays.asList(
+            // Speed Demon: Complete tasks 25% faster than department average
+            new Rule("speed_demon", "Speed Demon", "Complete tasks 25% faster than department average", "SPEED", "⚡",
+                    (row, dept) -> dept != null && dept.averageTasksPerWeek > 0
+                            && row.getAverageTasksPerWeek() >= dept.averageTasksPerWeek * 1.25,
+                    (row, dept) -> "Average tasks per week: " + String.format("%.1f", row.getAverageTasksPerWeek())),
+            // Quality Champion: Maintain 95%+ completion rate
+            new Rule("quality_champion", "Quality Champion", "Maintain 95%+ completion rate", "QUALITY", "🏆",
+                    (row, dept) -> row.getCompletionRate() >= 95.0,
+                    (row, dept) -> "Completion rate: " + String.format("%.1f%%", row.getCompletionRate())),
+            // Consistency King: Steady performance
+            new Rule("consistency_king", "Consistency King", "Steady performance with high consistency", "CONSISTENCY", "👑",
+                    (row, dept) -> row.getConsistencyScore() >= 85.0,
+                    (row, dept) -> "Consistency score: " + String.format("%.1f", row.getConsistencyScore())),
+            // Perfect Week: 100% completion (simplified check)
+            new Rule("perfect_week", "Perfect Week", "100% completion rate", "QUALITY", "⭐",
+                    (row, dept) -> row.getCompletionRate() == 100.0 && row.getTasksCompleted() > 0,
+                    (row, dept) -> "Perfect completion rate achieved"),
+            // Rising Star: Top 20% in department
+            new Rule("rising_star", "Rising Star", "Top performer in your department", "IMPROVEMENT", "🌟",
+                    (row, dept) -> dept != null && row.getDepartmentRank() > 0
+                            && row.getDepartmentRank() <= dept.topTwentyPercentCutoff,
+                    (row, dept) -> "Rank #" + row.getDepartmentRank() + " in " + row.getDepartment()),
+            // Team Player: High collaboration (simplified - based on tasks assigned)
+            new Rule("team_player", "Team Player", "Actively engaged with multiple tasks", "TEAMWORK", "🤝",
+                    (row, dept) -> row.getTasksAssigned() >= 10,
+                    (row, dept) -> "Assigned to " + row.getTasksAssigned() + " tasks")
+    );
+
+    @Autowired
+    private UserBadgeRepository userBadgeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Earned badges for every ranked user, keyed by user ID (users without badges are absent)
+     */
+    public Map<Long, List<BadgeDTO>> evaluate(RankingTable rankings) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, List<BadgeDTO>> result = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        evaluate(rankings, (row, dept, rule, awardedAt) ->
+                result.computeIfAbsent(row.getUserId(), id -> new ArrayList<>())
+                        .add(new BadgeDTO(rule.badgeId, rule.name, rule.description, rule.category, rule.icon,
+                                awardedAt != null ? awardedAt : now, true, rule.criteria.apply(row, dept))));
+        logger.debug("Evaluated badges: users={}, duration={}ms", rankings.size(), System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * Store the badges ranked users have earned but not been awarded yet, in one batch; returns their user IDs
+     */
+    public Set<Long> recordAwards(RankingTable rankings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> newAwards = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        evaluate(rankings, (row, dept, rule, awardedAt) -> {
+            if (awardedAt == null) {
+                newAwards.add(new Object[]{row.getUserId(), rule.badgeId, now});
+                userIds.add(row.getUserId());
+            }
+        });
+
+        // IGNORE: another instance running the same job may have stored them already
+        if (!newAwards.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO user_badges (user_id, badge_id, awarded_at) VALUES (?, ?, ?)", newAwards);
+        }
+        logger.info("Recorded badge awards: users={}, newAwards={}", userIds.size(), newAwards.size());
+        return userIds;
+    }
+
+    // Calls back once per earned badge, with the stored award time (null when not awarded yet)
+    private void evaluate(RankingTable rankings, EarnedBadgeHandler handler) {
+        // 1. Department aggregates, once per department
+        Map<String, DepartmentStats> departments = new HashMap<>();
+        List<Long> userIds = new ArrayList<>(rankings.size());
+        for (UserRanking row : rankings.getRanked()) {
+            userIds.add(row.getUserId());
+            if (row.getDepartment() != null && !departments.containsKey(row.getDepartment())) {
+                departments.put(row.getDepartment(), new DepartmentStats(rankings.getDepartment(row.getDepartment())));
+            }
+        }
+
+        // 2. Existing awards of the ranked users in one read
+        Map<Long, Map<String, LocalDateTime>> awarded = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UserBadge badge : userBadgeRepository.findByUserIdIn(userIds)) {
+                awarded.computeIfAbsent(badge.getUserId(), id -> new HashMap<>()).put(badge.getBadgeId(), badge.getAwardedAt());
+            }
+        }
+
+        // 3. Every rule for every user
+        for (UserRanking row : rankings.getRanked()) {
+            DepartmentStats dept = row.getDepartment() != null ? departments.get(row.getDepartment()) : null;
+            Map<String, LocalDateTime> userAwards = awarded.getOrDefault(row.getUserId(), Map.of());
+            for (Rule rule : RULES) {
+                if (rule.test.test(row, dept)) {
+                    handler.earned(row, dept, rule, userAwards.get(rule.badgeId));
+                }
+            }
+        }
+    }
+
+    interface EarnedBadgeHandler {
+        void earned(UserRanking row, DepartmentStats dept, Rule rule, LocalDateTime awardedAt);
+    }
+
+    static class DepartmentStats {
+        final double averageTasksPerWeek;
+        final int topTwentyPercentCutoff;
+
+        DepartmentStats(List<UserRanking> members) {
+            this.averageTasksPerWeek = members.stream()
+                    .mapToDouble(UserRanking::getAverageTasksPerWeek)
+                    .average()
+                    .orElse(0.0);
+            this.topTwentyPercentCutoff = (int) Math.ceil(members.size() * 0.2);
+        }
+    }
+
+    static class Rule {
+        final String badgeId;
+        final String name;
+        final String description;
+        final String category;
+        final String icon;
+        final BiPredicate<UserRanking, DepartmentStats> test;
+        final BiFunction<UserRanking, DepartmentStats, String> criteria;
+
+        Rule(String badgeId, String name, String description, String category, String icon,
+             BiPredicate<UserRanking, DepartmentStats> test,
+             BiFunction<UserRanking, DepartmentStats, String> criteria) {
+            this.badgeId = badgeId;
+            this.name = name;
+            this.description = description;
+            this.category = category;
+            this.icon = icon;
+            this.test = test;
+            this.criteria = criteria;
+        }
+    }
+}
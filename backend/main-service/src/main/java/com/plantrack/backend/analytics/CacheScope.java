@@ -0,0 +1,55 @@
+package com.plantrack.backend.analytics;
+
+import java.util.Objects;
+
+/**
+ * What a cached analytics result depends on. Change events evict the entries
+ * whose scope they touch; GLOBAL entries depend on everything and go on any write.
+ */
+public final class CacheScope {
+
+    public enum Type { USER, DEPARTMENT, GLOBAL }
+
+    private static final CacheScope GLOBAL = new CacheScope(Type.GLOBAL, null);
+
+    private final Type type;
+    private final Object id;
+
+    private CacheScope(Type type, Object id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    public static CacheScope user(Long userId) {
+        return new CacheScope(Type.USER, userId);
+    }
+
+    public static CacheScope department(String department) {
+        return new CacheScope(Type.DEPARTMENT, department);
+    }
+
+    public static CacheScope global() {
+        return GLOBAL;
+    }
+
+    public Type getType() { return type; }
+    public Object getId() { return id; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CacheScope)) return false;
+        CacheScope that = (CacheScope) o;
+        return type == that.type && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id);
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.GLOBAL ? "GLOBAL" : type + ":" + id;
+    }
+}
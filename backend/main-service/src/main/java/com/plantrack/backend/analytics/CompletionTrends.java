@@ -0,0 +1,79 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.model.RollupPeriod;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Velocity, streak and consistency figures derived from a user's completion
+ * rollups (period start -> completed initiatives).
+ */
+public final class CompletionTrends {
+
+    private CompletionTrends() {}
+
+    /** Start of the oldest of the last {@code periods} periods, current one included */
+    public static LocalDate windowStart(RollupPeriod period, LocalDate today, int periods) {
+        LocalDate start = period.start(today);
+        for (int i = 1; i < periods; i++) {
+            start = period.previous(start);
+        }
+        return start;
+    }
+
+    /** Completions over the last {@code periods} periods, current one included */
+    public static int total(Map<LocalDate, Integer> completions, RollupPeriod period, LocalDate today, int periods) {
+        int total = 0;
+        LocalDate start = period.start(today);
+        for (int i = 0; i < periods; i++) {
+            total += completions.getOrDefault(start, 0);
+            start = period.previous(start);
+        }
+        return total;
+    }
+
+    /**
+     * Consecutive periods with at least one completion, counting back from the
+     * current period. An empty current period does not break the streak yet.
+     */
+    public static int streak(Map<LocalDate, Integer> completions, RollupPeriod period, LocalDate today) {
+        LocalDate start = period.start(today);
+        if (completions.getOrDefault(start, 0) == 0) {
+            start = period.previous(start);
+        }
+        int streak = 0;
+        while (completions.getOrDefault(start, 0) > 0) {
+            streak++;
+            start = period.previous(start);
+        }
+        return streak;
+    }
+
+    /**
+     * 0-100 score from the spread of completions over the last {@code periods}
+     * periods: 100 for an even pace, 0 for everything in a single period or no
+     * completions at all (coefficient of variation scaled by its maximum).
+     */
+    public static double consistencyScore(Map<LocalDate, Integer> completions, RollupPeriod period,
+                                          LocalDate today, int periods) {
+        double[] counts = new double[periods];
+        double sum = 0;
+        LocalDate start = period.start(today);
+        for (int i = 0; i < periods; i++) {
+            counts[i] = completions.getOrDefault(start, 0);
+            sum += counts[i];
+            start = period.previous(start);
+        }
+        if (sum == 0 || periods < 2) {
+            return 0.0;
+        }
+        double mean = sum / periods;
+        double variance = 0;
+        for (double count : counts) {
+            variance += (count - mean) * (count - mean);
+        }
+        double coefficientOfVariation = Math.sqrt(variance / periods) / mean;
+        return Math.max(0.0, 100 * (1 - coefficientOfVariation / Math.sqrt(periods - 1)));
+    }
+}
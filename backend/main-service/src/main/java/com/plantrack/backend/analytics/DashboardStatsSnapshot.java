@@ -0,0 +1,79 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.dto.DashboardStatsDTO;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived in-process copy of the dashboard stats. Concurrent callers that
+ * find it stale wait for a single recomputation instead of each running the
+ * count queries; any committed write invalidates it.
+ */
+@Component
+public class DashboardStatsSnapshot {
+
+    private final Object lock = new Object();
+    private final long ttlMillis;
+
+    // Bumped on every invalidation; an entry loaded under an older generation is never served
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Entry entry;
+
+    public DashboardStatsSnapshot(@Value("${plantrack.analytics.dashboard.ttl-ms:30000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public DashboardStatsDTO get(Supplier<DashboardStatsDTO> loader) {
+        DashboardStatsDTO current = fresh();
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            // Another caller may have reloaded while we waited for the lock
+            current = fresh();
+            if (current != null) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            DashboardStatsDTO loaded = loader.get();
+            entry = new Entry(loaded, System.currentTimeMillis(), loadGeneration);
+            return loaded;
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    // After commit, so a reload cannot pick up the pre-write counts again
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(AnalyticsDataChangedEvent event) {
+        invalidate();
+    }
+
+    private DashboardStatsDTO fresh() {
+        Entry current = entry;
+        if (current != null && current.generation == generation.get()
+                && System.currentTimeMillis() - current.loadedAt < ttlMillis) {
+            return current.stats;
+        }
+        return null;
+    }
+
+    private static class Entry {
+        final DashboardStatsDTO stats;
+        final long loadedAt;
+        final long generation;
+
+        Entry(DashboardStatsDTO stats, long loadedAt, long generation) {
+            this.stats = stats;
+            this.loadedAt = loadedAt;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.dto.InitiativeCountsDTO;
+import com.plantrack.backend.model.RollupPeriod;
+import com.plantrack.backend.model.User;
+import com.plantrack.backend.model.UserRankSnapshot;
+import com.plantrack.backend.repository.UserRankSnapshotRepository;
+import com.plantrack.backend.repository.UserRepository;
+import com.plantrack.backend.service.InitiativeStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores every user from the maintained per-user initiative counters and weekly
+ * completion rollups, and ranks them
+ * with a single sort. Department ranks are assigned while walking the global
+ * order, so they need no second sort. Previous ranks come from the latest weekly
+ * snapshot in one indexed read.
+ */
+@Component
+public class PerformanceRankingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceRankingEngine.class);
+
+    // Overall score = completion 40% + speed 30% + quality 20% + consistency 10%
+    private static final double COMPLETION_WEIGHT = 0.4;
+    private static final double SPEED_WEIGHT = 0.3;
+    private static final double QUALITY_WEIGHT = 0.2;
+    private static final double CONSISTENCY_WEIGHT = 0.1;
+
+    private static final int VELOCITY_WEEKS = 8;
+    private static final double TARGET_TASKS_PER_WEEK = 5.0;
+
+    // Best score first; ties keep user id order so ranks are stable between runs
+    private static final Comparator<UserRanking> BY_OVERALL_SCORE =
+            Comparator.comparingDouble(UserRanking::getOverallScore).reversed()
+                    .thenComparing(UserRanking::getUserId);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+
+    @Autowired
+    private UserRankSnapshotRepository snapshotRepository;
+
+    public RankingTable computeRankings() {
+        long startTime = System.currentTimeMillis();
+
+        // 1. One scan of users, one read of the counter table, one range read of weekly rollups
+        List<User> users = userRepository.findAll();
+        Map<Long, InitiativeCountsDTO> counts = initiativeStatsService.getAllCounts();
+        LocalDate today = LocalDate.now();
+        Map<Long, Map<LocalDate, Integer>> weeklyCompletions = initiativeStatsService.getAllCompletions(
+                RollupPeriod.WEEK, CompletionTrends.windowStart(RollupPeriod.WEEK, today, VELOCITY_WEEKS));
+
+        // 2. Score every user
+        List<UserRanking> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            InitiativeCountsDTO count = counts.get(user.getUserId());
+            int assigned = count != null ? count.getAssigned() : 0;
+            int completed = count != null ? count.getCompleted() : 0;
+            Map<LocalDate, Integer> weekly = weeklyCompletions.getOrDefault(user.getUserId(), Collections.emptyMap());
+            rows.add(score(user, assigned, completed, weekly, today));
+        }
+
+        // 3. Single sort, then global and department ranks in one walk
+        rows.sort(BY_OVERALL_SCORE);
+        Map<String, Integer> departmentPositions = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserRanking row = rows.get(i);
+            row.setRank(i + 1);
+            if (row.getDepartment() != null) {
+                row.setDepartmentRank(departmentPositions.merge(row.getDepartment(), 1, Integer::sum));
+            } else {
+                row.setDepartmentRank(1);
+            }
+        }
+
+        // 4. Attach the latest snapshot for rank deltas and improvement
+        Map<Long, UserRankSnapshot> previous = latestSnapshot();
+        for (UserRanking row : rows) {
+            row.setPrevious(previous.get(row.getUserId()));
+        }
+
+        logger.debug("Computed rankings: users={}, duration={}ms", rows.size(), System.currentTimeMillis() - startTime);
+        return new RankingTable(rows);
+    }
+
+    private Map<Long, UserRankSnapshot> latestSnapshot() {
+        LocalDate periodStart = snapshotRepository.findLatestPeriodStart();
+        if (periodStart == null) {
+            return Collections.emptyMap();
+        }
+        Map<Long, UserRankSnapshot> snapshot = new HashMap<>();
+        for (UserRankSnapshot row : snapshotRepository.findByPeriodStart(periodStart)) {
+            snapshot.put(row.getUserId(), row);
+        }
+        return snapshot;
+    }
+
+    private UserRanking score(User user, int tasksAssigned, int tasksCompleted,
+                              Map<LocalDate, Integer> weekly, LocalDate today) {
+        double completionRate = tasksAssigned > 0 ? ((double) tasksCompleted / tasksAssigned) * 100 : 0.0;
+
+        // Speed score: completions over the last 8 weeks, normalized to 5 tasks/week = 100
+        double averageTasksPerWeek = CompletionTrends.total(weekly, RollupPeriod.WEEK, today, VELOCITY_WEEKS)
+                / (double) VELOCITY_WEEKS;
+        double speedScore = Math.min(100, (averageTasksPerWeek / TARGET_TASKS_PER_WEEK) * 100);
+
+        // Quality score: based on completion rate
+        double qualityScore = completionRate;
+
+        // Consistency score: how evenly those completions are spread over the weeks
+        double consistencyScore = CompletionTrends.consistencyScore(weekly, RollupPeriod.WEEK, today, VELOCITY_WEEKS);
+
+        double overallScore = (completionRate * COMPLETION_WEIGHT) + (speedScore * SPEED_WEIGHT)
+                + (qualityScore * QUALITY_WEIGHT) + (consistencyScore * CONSISTENCY_WEIGHT);
+
+        String performanceTier = overallScore >= 85 ? "TOP_PERFORMER" :
+                                 overallScore >= 65 ? "CONSISTENT" : "NEEDS_IMPROVEMENT";
+
+        return new UserRanking(user.getUserId(), user.getName(), user.getDepartment(),
+                tasksAssigned, tasksCompleted, completionRate, averageTasksPerWeek,
+                speedScore, qualityScore, consistencyScore, overallScore, performanceTier);
+    }
+}
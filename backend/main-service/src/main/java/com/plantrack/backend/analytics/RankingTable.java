@@ -0,0 +1,61 @@
+package com.plantrack.backend.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable result of one ranking pass: every user scored and ranked, globally
+ * and within their department. Rows are kept in global rank order.
+ */
+public class RankingTable {
+
+    private final List<UserRanking> ranked;
+    private final Map<Long, UserRanking> byUser;
+    private final Map<String, List<UserRanking>> byDepartment;
+    private final LocalDateTime computedAt;
+
+    RankingTable(List<UserRanking> ranked) {
+        this.ranked = Collections.unmodifiableList(ranked);
+        this.byUser = new HashMap<>(ranked.size() * 2);
+        Map<String, List<UserRanking>> departments = new LinkedHashMap<>();
+        for (UserRanking row : ranked) {
+            byUser.put(row.getUserId(), row);
+            if (row.getDepartment() != null) {
+                departments.computeIfAbsent(row.getDepartment(), d -> new ArrayList<>()).add(row);
+            }
+        }
+        this.byDepartment = departments;
+        this.computedAt = LocalDateTime.now();
+    }
+
+    /** All users, best overall score first */
+    public List<UserRanking> getRanked() {
+        return ranked;
+    }
+
+    /** Users of one department in department rank order (empty if unknown) */
+    public List<UserRanking> getDepartment(String department) {
+        if (department == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(byDepartment.getOrDefault(department, Collections.emptyList()));
+    }
+
+    public Optional<UserRanking> find(Long userId) {
+        return Optional.ofNullable(byUser.get(userId));
+    }
+
+    public int size() {
+        return ranked.size();
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+}
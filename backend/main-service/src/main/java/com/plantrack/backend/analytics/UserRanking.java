@@ -0,0 +1,83 @@
+package com.plantrack.backend.analytics;
+
+import com.plantrack.backend.model.UserRankSnapshot;
+
+/**
+ * One scored row of the {@link RankingTable}. Scores are filled in by the
+ * {@link PerformanceRankingEngine}; ranks are assigned after the single sort.
+ */
+public class UserRanking {
+
+    private final Long userId;
+    private final String userName;
+    private final String department;
+    private final int tasksAssigned;
+    private final int tasksCompleted;
+    private final double completionRate;
+    private final double averageTasksPerWeek;
+    private final double speedScore;
+    private final double qualityScore;
+    private final double consistencyScore;
+    private final double overallScore;
+    private final String performanceTier;
+    private int rank;
+    private int departmentRank;
+    // From the latest weekly snapshot; null when the user has none yet
+    private UserRankSnapshot previous;
+
+    public UserRanking(Long userId, String userName, String department,
+                       int tasksAssigned, int tasksCompleted, double completionRate,
+                       double averageTasksPerWeek, double speedScore, double qualityScore,
+                       double consistencyScore, double overallScore, String performanceTier) {
+        this.userId = userId;
+        this.userName = userName;
+        this.department = department;
+        this.tasksAssigned = tasksAssigned;
+        this.tasksCompleted = tasksCompleted;
+        this.completionRate = completionRate;
+        this.averageTasksPerWeek = averageTasksPerWeek;
+        this.speedScore = speedScore;
+        this.qualityScore = qualityScore;
+        this.consistencyScore = consistencyScore;
+        this.overallScore = overallScore;
+        this.performanceTier = performanceTier;
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUserName() { return userName; }
+    public String getDepartment() { return department; }
+    public int getTasksAssigned() { return tasksAssigned; }
+    public int getTasksCompleted() { return tasksCompleted; }
+    public double getCompletionRate() { return completionRate; }
+    public double getAverageTasksPerWeek() { return averageTasksPerWeek; }
+    public double getSpeedScore() { return speedScore; }
+    public double getQualityScore() { return qualityScore; }
+    public double getConsistencyScore() { return consistencyScore; }
+    public double getOverallScore() { return overallScore; }
+    public String getPerformanceTier() { return performanceTier; }
+
+    public int getRank() { return rank; }
+    void setRank(int rank) { this.rank = rank; }
+
+    public int getDepartmentRank() { return departmentRank; }
+    void setDepartmentRank(int departmentRank) { this.departmentRank = departmentRank; }
+
+    /** Global rank at the latest snapshot, or the current rank when there is no history */
+    public int getPreviousRank() { return previous != null ? previous.getGlobalRank() : rank; }
+
+    /** Department rank at the latest snapshot, or the current one when there is no history */
+    public int getPreviousDepartmentRank() { return previous != null ? previous.getDepartmentRank() : departmentRank; }
+
+    /** Positive = moved up since the latest snapshot */
+    public int getRankChange() { return getPreviousRank() - rank; }
+
+    /** Overall score change since the latest snapshot, in percent of the old score */
+    public double getImprovementPercentage() {
+        if (previous == null || previous.getOverallScore() <= 0) {
+            return 0.0;
+        }
+        return ((overallScore - previous.getOverallScore()) / previous.getOverallScore()) * 100;
+    }
+
+    void setPrevious(UserRankSnapshot previous) { this.previous = previous; }
+}
@@ -0,0 +1,322 @@
+package com.plantrack.backend.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.model.AuditLogItem;
+import com.plantrack.backend.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Monthly cold storage for audit entries. Entries older than the hot-retention window are
+ * moved out of audit_logs into one append-only gzip NDJSON file per month
+ * ({@code audit-YYYY-MM.ndjson.gz}); each run appends a new gzip member, so existing data is
+ * never rewritten. Cascade items go to a companion {@code audit-items-YYYY-MM.ndjson.gz}.
+ * Each run appends oldest first, so a month file is in (timestamp, id) order. Rows are
+ * deleted only after their file is synced; a crash between the two re-appends a batch,
+ * which readers skip because it does not move past the last entry read.
+ */
+@Component
+public class AuditArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchive.class);
+
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+    private static final String ITEMS_FILE_PREFIX = "audit-items-";
+
+    private static final RowMapper<AuditLogItem> ITEM_ROW_MAPPER = (rs, rowNum) -> {
+        AuditLogItem item = new AuditLogItem(rs.getString("entity_type"), rs.getLong("entity_id"), rs.getString("old_value"));
+        item.setAuditLogId(rs.getLong("audit_log_id"));
+        return item;
+    };
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Path directory;
+    private final int hotMonths;
+    private final int batchSize;
+
+    public AuditArchive(@Value("${plantrack.audit.archive.dir:audit-archive}") String directory,
+                        @Value("${plantrack.audit.archive.hot-months:6}") int hotMonths,
+                        @Value("${plantrack.audit.archive.batch-size:5000}") int batchSize) {
+        this.directory = Paths.get(directory);
+        this.hotMonths = hotMonths;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Start of the hot window: everything before it belongs in the archive
+     */
+    public LocalDateTime hotCutoff() {
+        return YearMonth.now().minusMonths(hotMonths).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Move every entry older than the hot window into its month's archive file
+     */
+    @Scheduled(cron = "${plantrack.audit.archive.cron:0 30 3 * * *}")
+    public synchronized int archiveExpired() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = hotCutoff();
+        int archived = 0;
+        while (true) {
+            // 1. Oldest batch first, through the (timestamp, id) index
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("cutoff", cutoff)
+                    .addValue("limit", batchSize);
+            List<AuditLog> batch = jdbcTemplate.query("SELECT " + AuditLogRowMapper.COLUMNS +
+                    " FROM audit_logs a WHERE a.timestamp < :cutoff ORDER BY a.timestamp, a.id LIMIT :limit",
+                    params, AuditLogRowMapper.INSTANCE);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // 2. Append each month's share to its files (cascade items beside their parents),
+            //    synced before anything is deleted
+            Map<YearMonth, List<AuditLog>> byMonth = new TreeMap<>();
+            Map<Long, YearMonth> monthById = new HashMap<>();
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (AuditLog entry : batch) {
+                YearMonth month = YearMonth.from(entry.getTimestamp());
+                byMonth.computeIfAbsent(month, m -> new ArrayList<>()).add(entry);
+                monthById.put(entry.getId(), month);
+                ids.add(entry.getId());
+            }
+            MapSqlParameterSource idParams = new MapSqlParameterSource("ids", ids);
+            Map<YearMonth, List<AuditLogItem>> itemsByMonth = new TreeMap<>();
+            for (AuditLogItem item : jdbcTemplate.query("SELECT audit_log_id, entity_type, entity_id, old_value " +
+                    "FROM audit_log_items WHERE audit_log_id IN (:ids)", idParams, ITEM_ROW_MAPPER)) {
+                itemsByMonth.computeIfAbsent(monthById.get(item.getAuditLogId()), m -> new ArrayList<>()).add(item);
+            }
+            byMonth.forEach((month, entries) -> append(fileFor(month), entries));
+            itemsByMonth.forEach((month, items) -> append(itemsFileFor(month), items));
+
+            // 3. Then drop the rows from the hot tables
+            jdbcTemplate.update("DELETE FROM audit_log_items WHERE audit_log_id IN (:ids)", idParams);
+            jdbcTemplate.update("DELETE FROM audit_logs WHERE id IN (:ids)", idParams);
+            archived += batch.size();
+        }
+        if (archived > 0) {
+            logger.info("Archived audit entries: entries={}, cutoff={}, duration={}ms",
+                    archived, cutoff, System.currentTimeMillis() - startTime);
+        }
+        return archived;
+    }
+
+    /**
+     * Archived months, newest first
+     */
+    public List<YearMonth> months() {
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return months;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(ITEMS_FILE_PREFIX)) {
+                    continue;
+                }
+                months.add(YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        months.sort(Comparator.reverseOrder());
+        return months;
+    }
+
+    /**
+     * Up to limit matching entries of one archived month older than the cursor (any, without one),
+     * newest first. Reads the file only up to the cursor and keeps just the last limit matches.
+     */
+    public List<AuditLog> readPage(YearMonth month, AuditLogFilter filter, KeysetCursor before, int limit) {
+        Deque<AuditLog> newest = new ArrayDeque<>(limit + 1);
+        scan(month, filter, before, entry -> {
+            newest.addLast(entry);
+            if (newest.size() > limit) {
+                newest.removeFirst();
+            }
+        });
+        List<AuditLog> page = new ArrayList<>(newest.size());
+        for (Iterator<AuditLog> entries = newest.descendingIterator(); entries.hasNext(); ) {
+            page.add(entries.next());
+        }
+        return page;
+    }
+
+    /**
+     * Stream the matching entries of one archived month in file (oldest first) order
+     */
+    public void forEach(YearMonth month, AuditLogFilter filter, Consumer<AuditLog> consumer) {
+        scan(month, filter, null, consumer);
+    }
+
+    private void scan(YearMonth month, AuditLogFilter filter, KeysetCursor before, Consumer<AuditLog> consumer) {
+        // 1. For a single entity, its cascade items of this month, by parent entry
+        Map<Long, AuditLogItem> itemsByParent = new HashMap<>();
+        if (filter.isEntityScoped()) {
+            readLines(itemsFileFor(month), AuditLogItem.class, item -> {
+                if (filter.getEntityType().equals(item.getEntityType()) && filter.getEntityId().equals(item.getEntityId())) {
+                    itemsByParent.put(item.getAuditLogId(), item);
+                }
+                return true;
+            });
+        }
+
+        // 2. Entries in file order until the cursor; a parent of a matching item is expanded into that item's entry
+        AuditLog[] last = new AuditLog[1];
+        readLines(fileFor(month), AuditLog.class, entry -> {
+            if (before != null && !isBefore(entry, before.getTimestamp(), before.getId())) {
+                return false;
+            }
+            if (last[0] != null && !isBefore(last[0], entry.getTimestamp(), entry.getId())) {
+                return true; // Re-appended after a crash
+            }
+            last[0] = entry;
+            if (filter.matches(entry)) {
+                consumer.accept(entry);
+            }
+            AuditLogItem item = itemsByParent.get(entry.getId());
+            if (item != null) {
+                AuditLog expanded = expand(entry, item);
+                if (filter.matches(expanded)) {
+                    consumer.accept(expanded);
+                }
+            }
+            return true;
+        });
+    }
+
+    private static boolean isBefore(AuditLog entry, LocalDateTime timestamp, Long id) {
+        int byTime = entry.getTimestamp().compareTo(timestamp);
+        return byTime < 0 || (byTime == 0 && entry.getId() < id);
+    }
+
+    /**
+     * Cascade items of an archived parent entry
+     */
+    public List<AuditLogItem> readItems(YearMonth month, Long auditLogId) {
+        Map<String, AuditLogItem> items = new TreeMap<>();
+        readLines(itemsFileFor(month), AuditLogItem.class, item -> {
+            if (auditLogId.equals(item.getAuditLogId())) {
+                items.put(item.getEntityType() + ":" + item.getEntityId(), item);
+            }
+            return true;
+        });
+        return new ArrayList<>(items.values());
+    }
+
+    // GZIPInputStream reads the appended members back to back; the handler returns false to stop early
+    private <T> void readLines(Path file, Class<T> type, Predicate<T> handler) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !handler.test(objectMapper.readValue(line, type))) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit archive: " + file, e);
+        }
+    }
+
+    // The same shape as AuditLogRowMapper.ITEM_COLUMNS gives hot cascade items
+    private AuditLog expand(AuditLog parent, AuditLogItem item) {
+        AuditLog expanded = new AuditLog(parent.getAction(), parent.getPerformedBy(), item.getEntityType(),
+                item.getEntityId(), parent.getDetails());
+        expanded.setId(parent.getId());
+        expanded.setTimestamp(parent.getTimestamp());
+        expanded.setOldValue(item.getOldValue());
+        expanded.setNewValue(parent.getNewValue());
+        return expanded;
+    }
+
+    /** Archived months and their file sizes */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hotCutoff", hotCutoff());
+        Map<String, Long> files = new LinkedHashMap<>();
+        for (YearMonth month : months()) {
+            try {
+                files.put(month.toString(), Files.size(fileFor(month)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        stats.put("months", files);
+        return stats;
+    }
+
+    private void append(Path file, List<?> entries) {
+        try {
+            Files.createDirectories(directory);
+            try (FileOutputStream out = new FileOutputStream(file.toFile(), true)) {
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+                for (Object entry : entries) {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.newLine();
+                }
+                writer.flush();
+                gzip.finish();
+                out.getFD().sync();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append audit archive: " + file, e);
+        }
+    }
+
+    private Path fileFor(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+    }
+
+    private Path itemsFileFor(YearMonth month) {
+        return directory.resolve(ITEMS_FILE_PREFIX + month + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,53 @@
+package com.plantrack.backend.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Knows whether the MySQL FULLTEXT index behind audit search exists. JPA's {@code @Index}
+ * cannot declare FULLTEXT, and building it on a large table is a long DDL, so it is created
+ * by db/migration/create_audit_fulltext_index.sql rather than by the application.
+ */
+@Component
+public class AuditFullTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditFullTextIndex.class);
+
+    public static final String INDEX_NAME = "ft_audit_text";
+    public static final String COLUMNS = "details, old_value, new_value";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile boolean present;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndex() {
+        try {
+            if (!isPresent()) {
+                logger.warn("Audit full-text index {} is missing; audit search is unavailable until " +
+                        "db/migration/create_audit_fulltext_index.sql is run", INDEX_NAME);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not check audit full-text index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the index exists; looked up again until it is found, so a migration run later is picked up
+     */
+    public boolean isPresent() {
+        if (!present) {
+            Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'audit_logs' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            present = existing != null && existing > 0;
+        }
+        return present;
+    }
+}
@@ -0,0 +1,136 @@
+package com.plantrack.backend.audit;
+
+import com.plantrack.backend.model.AuditLog;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDateTime;
+
+/**
+ * Combinable audit log filters; unset fields do not filter. The time range is [from, to).
+ */
+public class AuditLogFilter {
+
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private String performedBy;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean includeArchived; // Also read archived months once the hot table runs out
+
+    public AuditLogFilter() {}
+
+    public AuditLogFilter(String entityType, Long entityId, String action, String performedBy,
+                          LocalDateTime from, LocalDateTime to) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.performedBy = performedBy;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * True when the filter names a single entity, which also matches that entity's cascade items
+     */
+    public boolean isEntityScoped() {
+        return entityType != null && !entityType.isEmpty() && entityId != null;
+    }
+
+    /**
+     * Full SELECT of the matching entries (columns as in {@link AuditLogRowMapper}) in (timestamp, id) order.
+     * For a single entity, its cascade items are added as rows of their own that carry the parent's id, time,
+     * action and details. extraCondition (on alias "a") is applied to both parts; limit may be null.
+     */
+    public String toSelectSql(MapSqlParameterSource params, String extraCondition, boolean newestFirst, Integer limit) {
+        String direction = newestFirst ? " DESC" : "";
+        String condition = extraCondition != null ? " AND " + extraCondition : "";
+        String tail = limit != null ? " LIMIT :limit" : "";
+        if (limit != null) {
+            params.addValue("limit", limit);
+        }
+        String entries = "SELECT " + AuditLogRowMapper.COLUMNS + " FROM audit_logs a WHERE " + toSql("a", "a", params) + condition;
+        if (!isEntityScoped()) {
+            return entries + " ORDER BY a.timestamp" + direction + ", a.id" + direction + tail;
+        }
+        String items = "SELECT " + AuditLogRowMapper.ITEM_COLUMNS + " FROM audit_log_items i " +
+                "JOIN audit_logs a ON a.id = i.audit_log_id WHERE " + toSql("a", "i", params) + condition;
+        return "(" + entries + " ORDER BY a.timestamp" + direction + ", a.id" + direction + tail + ")" +
+                " UNION ALL (" + items + " ORDER BY a.timestamp" + direction + ", a.id" + direction + tail + ")" +
+                " ORDER BY timestamp" + direction + ", id" + direction + tail;
+    }
+
+    /**
+     * SQL conditions (joined with AND, starting with "1 = 1") for the set fields, binding their values into params
+     */
+    public String toSql(String alias, MapSqlParameterSource params) {
+        return toSql(alias, alias, params);
+    }
+
+    /**
+     * As {@link #toSql(String, MapSqlParameterSource)}, with the entity conditions on entityAlias
+     */
+    public String toSql(String alias, String entityAlias, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder("1 = 1");
+        if (entityType != null && !entityType.isEmpty()) {
+            sql.append(" AND ").append(entityAlias).append(".entity_type = :entityType");
+            params.addValue("entityType", entityType);
+        }
+        if (entityId != null) {
+            sql.append(" AND ").append(entityAlias).append(".entity_id = :entityId");
+            params.addValue("entityId", entityId);
+        }
+        if (action != null && !action.isEmpty()) {
+            sql.append(" AND ").append(alias).append(".action = :action");
+            params.addValue("action", action);
+        }
+        if (performedBy != null && !performedBy.isEmpty()) {
+            sql.append(" AND ").append(alias).append(".performed_by = :performedBy");
+            params.addValue("performedBy", performedBy);
+        }
+        if (from != null) {
+            sql.append(" AND ").append(alias).append(".timestamp >= :from");
+            params.addValue("from", from);
+        }
+        if (to != null) {
+            sql.append(" AND ").append(alias).append(".timestamp < :to");
+            params.addValue("to", to);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * The same conditions as {@link #toSql}, for archived entries read back from disk
+     */
+    public boolean matches(AuditLog entry) {
+        if (entityType != null && !entityType.isEmpty() && !entityType.equals(entry.getEntityType())) return false;
+        if (entityId != null && !entityId.equals(entry.getEntityId())) return false;
+        if (action != null && !action.isEmpty() && !action.equals(entry.getAction())) return false;
+        if (performedBy != null && !performedBy.isEmpty() && !performedBy.equals(entry.getPerformedBy())) return false;
+        if (from != null && entry.getTimestamp().isBefore(from)) return false;
+        if (to != null && !entry.getTimestamp().isBefore(to)) return false;
+        return true;
+    }
+
+    // Getters and Setters
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public String getPerformedBy() { return performedBy; }
+    public void setPerformedBy(String performedBy) { this.performedBy = performedBy; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public boolean isIncludeArchived() { return includeArchived; }
+    public void setIncludeArchived(boolean includeArchived) { this.includeArchived = includeArchived; }
+}
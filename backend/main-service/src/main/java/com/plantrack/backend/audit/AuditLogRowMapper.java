@@ -0,0 +1,40 @@
+package com.plantrack.backend.audit;
+
+import com.plantrack.backend.model.AuditLog;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Maps an audit_logs row selected with {@link #COLUMNS} (or a cascade item with {@link #ITEM_COLUMNS})
+ */
+public class AuditLogRowMapper implements RowMapper<AuditLog> {
+
+    public static final String COLUMNS = "a.id, a.action, a.performed_by, a.entity_type, a.entity_id, " +
+            "a.details, a.timestamp, a.old_value, a.new_value";
+
+    // A cascade item as an entry of its own: the child entity and its old value under the parent entry
+    public static final String ITEM_COLUMNS = "a.id, a.action, a.performed_by, i.entity_type, i.entity_id, " +
+            "a.details, a.timestamp, i.old_value, a.new_value";
+
+    public static final AuditLogRowMapper INSTANCE = new AuditLogRowMapper();
+
+    @Override
+    public AuditLog mapRow(ResultSet rs, int rowNum) throws SQLException {
+        AuditLog log = new AuditLog();
+        log.setId(rs.getLong("id"));
+        log.setAction(rs.getString("action"));
+        log.setPerformedBy(rs.getString("performed_by"));
+        log.setEntityType(rs.getString("entity_type"));
+        long entityId = rs.getLong("entity_id");
+        log.setEntityId(rs.wasNull() ? null : entityId);
+        log.setDetails(rs.getString("details"));
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        log.setTimestamp(timestamp != null ? timestamp.toLocalDateTime() : null);
+        log.setOldValue(rs.getString("old_value"));
+        log.setNewValue(rs.getString("new_value"));
+        return log;
+    }
+}
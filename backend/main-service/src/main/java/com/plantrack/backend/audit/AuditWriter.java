@@ -0,0 +1,416 @@
+package com.plantrack.backend.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.model.AuditLogItem;
+import com.plantrack.backend.repository.AuditLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind audit storage. Entries are queued once the business transaction commits
+ * and a single background writer inserts them in JDBC batches, by size or after a short
+ * delay. Every queued entry is also appended to a local journal, which is truncated once
+ * all journaled entries are in the database and replayed on startup after a crash
+ * (at-least-once: a crash between a batch commit and the truncation can repeat entries).
+ * When the queue is full, callers wait briefly and then insert on their own thread.
+ * If a batch is rejected, its entries are retried one by one; an entry the database refuses
+ * outright (constraint, oversized value) goes to a dead-letter file so the rest keep flowing.
+ * With {@code plantrack.audit.write-mode=sync}, entries are saved immediately, as before.
+ */
+@Component
+public class AuditWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs (action, performed_by, entity_type, entity_id, details, " +
+            "timestamp, old_value, new_value) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_ITEM_SQL = "INSERT INTO audit_log_items (audit_log_id, entity_type, entity_id, old_value) " +
+            "VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Path journalFile;
+    private final Path deadLetterFile;
+    private final BlockingQueue<AuditLog> queue;
+
+    // Guards the journal together with the queue, so truncation never drops an unwritten entry
+    private final Object journalLock = new Object();
+    private BufferedWriter journal;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong callerWrites = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    public AuditWriter(@Value("${plantrack.audit.write-mode:write-behind}") String writeMode,
+                       @Value("${plantrack.audit.queue-capacity:10000}") int queueCapacity,
+                       @Value("${plantrack.audit.batch-size:500}") int batchSize,
+                       @Value("${plantrack.audit.flush-interval-ms:200}") long flushIntervalMillis,
+                       @Value("${plantrack.audit.offer-timeout-ms:50}") long offerTimeoutMillis,
+                       @Value("${plantrack.audit.journal-file:audit-journal/audit-journal.ndjson}") String journalFile,
+                       @Value("${plantrack.audit.dead-letter-file:audit-journal/audit-dead-letter.ndjson}") String deadLetterFile) {
+        this.writeBehind = !"sync".equalsIgnoreCase(writeMode);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.journalFile = Paths.get(journalFile);
+        this.deadLetterFile = Paths.get(deadLetterFile);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!writeBehind) {
+            return;
+        }
+        if (journalFile.getParent() != null) {
+            Files.createDirectories(journalFile.getParent());
+        }
+        replayJournal();
+        journal = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("Audit write-behind started: batchSize={}, flushIntervalMs={}, journal={}",
+                batchSize, flushIntervalMillis, journalFile);
+    }
+
+    /**
+     * Store an entry: after the surrounding transaction commits (immediately without one)
+     */
+    public void write(AuditLog entry) {
+        if (!writeBehind) {
+            auditLogRepository.save(entry);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Store a cascade: the parent entry, then all its items in one batch. Written inside the
+     * caller's transaction (the items need the parent's id), so it commits or rolls back with the change.
+     */
+    public void writeWithItems(AuditLog parent, List<AuditLogItem> items) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            Object[] row = toRow(parent);
+            for (int i = 0; i < row.length; i++) {
+                statement.setObject(i + 1, row[i]);
+            }
+            return statement;
+        }, keyHolder);
+        Long parentId = keyHolder.getKey().longValue();
+        parent.setId(parentId);
+
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (AuditLogItem item : items) {
+            item.setAuditLogId(parentId);
+            rows.add(new Object[]{parentId, item.getEntityType(), item.getEntityId(), item.getOldValue()});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+        }
+        written.incrementAndGet();
+        logger.trace("Audit cascade written: parentId={}, items={}", parentId, items.size());
+    }
+
+    private void enqueue(AuditLog entry) {
+        long deadline = System.currentTimeMillis() + offerTimeoutMillis;
+        do {
+            synchronized (journalLock) {
+                if (running && queue.offer(entry)) {
+                    appendToJournal(entry);
+                    return;
+                }
+            }
+            // Backpressure: give the writer a moment to make room
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        } while (System.currentTimeMillis() < deadline);
+
+        // Still full (or shutting down): the caller pays for its own insert. After commit the finished
+        // transaction's connection is still bound and would never commit it, so it gets a transaction of its own
+        callerWrites.incrementAndGet();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, toRow(entry)));
+    }
+
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                // 1. Wait for a first entry, then collect until the batch is full or the interval passes
+                //    (what is left of a batch after a connection failure is retried as it is)
+                if (batch.isEmpty()) {
+                    AuditLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (batch.size() >= batchSize || remaining <= 0) {
+                            break;
+                        }
+                        AuditLog next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+
+                // 2. One batched insert, falling back to row by row; removes what is stored or dead-lettered
+                store(batch);
+
+                // 3. Everything journaled is now stored once the queue is empty
+                synchronized (journalLock) {
+                    if (queue.isEmpty()) {
+                        truncateJournal();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // The database is unreachable: keep the rest of the batch (it is still journaled) and retry
+                logger.error("Audit insert failed, retrying: entries={}", batch.size(), e);
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    // Stores the batch and empties it; throws with the unstored remainder left in place when the database is unreachable
+    private void store(List<AuditLog> batch) {
+        try {
+            flush(batch);
+            batch.clear();
+            return;
+        } catch (DataAccessException e) {
+            if (isUnavailable(e)) {
+                throw e;
+            }
+            failedBatches.incrementAndGet();
+            logger.warn("Audit batch rejected, inserting row by row: entries={}", batch.size(), e);
+        }
+
+        Iterator<AuditLog> entries = batch.iterator();
+        while (entries.hasNext()) {
+            AuditLog entry = entries.next();
+            try {
+                jdbcTemplate.update(INSERT_SQL, toRow(entry));
+                written.incrementAndGet();
+            } catch (DataAccessException e) {
+                if (isUnavailable(e)) {
+                    throw e;
+                }
+                deadLetter(entry, e);
+            }
+            entries.remove();
+        }
+    }
+
+    // Anything but a refusal of the data itself is worth retrying
+    private static boolean isUnavailable(DataAccessException e) {
+        return !(e instanceof NonTransientDataAccessException) || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void deadLetter(AuditLog entry, DataAccessException cause) {
+        deadLettered.incrementAndGet();
+        logger.error("Dropping audit entry the database rejected: entityType={}, entityId={}, action={}, file={}",
+                entry.getEntityType(), entry.getEntityId(), entry.getAction(), deadLetterFile, cause);
+        try {
+            if (deadLetterFile.getParent() != null) {
+                Files.createDirectories(deadLetterFile.getParent());
+            }
+            Files.writeString(deadLetterFile, objectMapper.writeValueAsString(entry) + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.error("Failed to write audit dead-letter file: {}", deadLetterFile, e);
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AuditLog entry : batch) {
+            rows.add(toRow(entry));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        written.addAndGet(batch.size());
+        batches.incrementAndGet();
+        logger.trace("Audit batch written: entries={}", batch.size());
+    }
+
+    private Object[] toRow(AuditLog entry) {
+        return new Object[]{entry.getAction(), entry.getPerformedBy(), entry.getEntityType(), entry.getEntityId(),
+                entry.getDetails(), Timestamp.valueOf(entry.getTimestamp()), entry.getOldValue(), entry.getNewValue()};
+    }
+
+    private void appendToJournal(AuditLog entry) {
+        try {
+            journal.write(objectMapper.writeValueAsString(entry));
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            // The entry is still queued; only its crash safety is lost
+            logger.error("Failed to journal audit entry: entityType={}, entityId={}", entry.getEntityType(), entry.getEntityId(), e);
+        }
+    }
+
+    private void truncateJournal() {
+        try {
+            journal.close();
+            journal = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Entries left by a crash are inserted before anything new is accepted
+    private void replayJournal() throws IOException {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        List<AuditLog> pending = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    pending.add(objectMapper.readValue(line, AuditLog.class));
+                } catch (IOException e) {
+                    // A torn last line from the crash itself
+                    logger.warn("Skipping unreadable audit journal line: length={}", line.length());
+                }
+            }
+        }
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            store(new ArrayList<>(pending.subList(from, Math.min(from + batchSize, pending.size()))));
+        }
+        if (!pending.isEmpty()) {
+            logger.warn("Replayed audit journal after unclean shutdown: entries={}", pending.size());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!writeBehind || !running) {
+            return;
+        }
+        synchronized (journalLock) {
+            running = false;
+        }
+        try {
+            // The writer drains what is left before exiting
+            writerThread.join(10_000);
+            synchronized (journalLock) {
+                journal.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("Failed to close audit journal", e);
+        }
+        logger.info("Audit write-behind stopped: written={}, pending={}", written.get(), queue.size());
+    }
+
+    /** Queue and throughput counters */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("writeMode", writeBehind ? "write-behind" : "sync");
+        stats.put("queued", queue.size());
+        stats.put("written", written.get());
+        stats.put("batches", batches.get());
+        stats.put("callerWrites", callerWrites.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("deadLettered", deadLettered.get());
+        return stats;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.plantrack.backend.config;
 
+import com.plantrack.backend.util.JwtUtil;
 import feign.RequestInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
@@ -10,13 +11,20 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Configuration
 public class FeignAuthForwardingConfig {
 
+    // Lets background calls create notifications downstream without admin rights
+    public static final String SERVICE_ROLE = "ROLE_SERVICE";
+
     @Bean
-    public RequestInterceptor authForwardingInterceptor() {
+    public RequestInterceptor authForwardingInterceptor(JwtUtil jwtUtil) {
         return template -> {
             ServletRequestAttributes attrs =
                     (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
-            if (attrs == null) return;
+            // Scheduled jobs and background dispatchers have no incoming request to forward; they call as the system
+            if (attrs == null) {
+                template.header("Authorization", "Bearer " + jwtUtil.generateToken("SYSTEM", SERVICE_ROLE));
+                return;
+            }
 
             HttpServletRequest request = attrs.getRequest();
             String authHeader = request.getHeader("Authorization");
@@ -56,6 +56,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/users/**").hasRole("ADMIN")
 
                 // REPORTING
+                .requestMatchers(HttpMethod.POST, "/api/reports/batch").hasRole("ADMIN")
                 .requestMatchers("/api/reports/**").hasAnyRole("MANAGER", "ADMIN")
 
                 // PLAN/MILESTONE URLS (Employees can GET plans, but only Managers/Admins can modify)
@@ -76,6 +77,9 @@ public class SecurityConfig {
                 // DASHBOARD STATS
                 .requestMatchers("/api/dashboard/**").hasAnyRole("MANAGER", "EMPLOYEE", "ADMIN")
 
+                // ANALYTICS MAINTENANCE (Admin only)
+                .requestMatchers("/api/analytics/admin/**").hasRole("ADMIN")
+
                 // ANALYTICS (All authenticated users - Employees, Managers, and Admins)
                 .requestMatchers("/api/analytics/**").hasAnyRole("EMPLOYEE", "MANAGER", "ADMIN")
 
@@ -1,14 +1,21 @@
 package com.plantrack.backend.controller;
 
+import com.plantrack.backend.analytics.AnalyticsCache;
 import com.plantrack.backend.dto.*;
 import com.plantrack.backend.dto.AnalyticsDTO;
 import com.plantrack.backend.service.AnalyticsService;
+import com.plantrack.backend.service.InitiativeStatsService;
+import com.plantrack.backend.service.BadgeAwardService;
+import com.plantrack.backend.service.RankHistoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -17,6 +24,18 @@ public class AnalyticsController {
     @Autowired
     private AnalyticsService analyticsService;
 
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private RankHistoryService rankHistoryService;
+
+    @Autowired
+    private BadgeAwardService badgeAwardService;
+
     // Get Dashboard Statistics
     @GetMapping("/dashboard/stats")
     public ResponseEntity<DashboardStatsDTO> getDashboardStats() {
@@ -72,6 +91,26 @@ public class AnalyticsController {
                 minTasks, maxTasks, performanceTier, sortBy, sortOrder));
     }
 
+    // Get one page of gamified velocity metrics (same filters; badges built for the page rows only)
+    @GetMapping(value = "/analytics/gamified-velocity", params = "page")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    public ResponseEntity<Page<GamifiedVelocityDTO>> getGamifiedVelocityPage(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Double minCompletionRate,
+            @RequestParam(required = false) Double maxCompletionRate,
+            @RequestParam(required = false) Integer minTasks,
+            @RequestParam(required = false) Integer maxTasks,
+            @RequestParam(required = false) String performanceTier,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(analyticsService.getGamifiedVelocityPage(
+                department, search, minCompletionRate, maxCompletionRate,
+                minTasks, maxTasks, performanceTier, sortBy, sortOrder, PageRequest.of(page, size)));
+    }
+
     // Get performance score for a specific user
     @GetMapping("/analytics/performance-score/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
@@ -113,4 +152,37 @@ public class AnalyticsController {
             @RequestParam(required = false) String department) {
         return ResponseEntity.ok(analyticsService.getGamifiedVelocity(userId, department));
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // ADMIN MAINTENANCE ENDPOINTS
+    // ============================================================
+
+    // Rebuild per-user initiative counters from the assignment tables (also runs nightly)
+    @PostMapping("/analytics/admin/counters/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildInitiativeCounters() {
+        initiativeStatsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Snapshot current ranks as last week's history (also runs weekly)
+    @PostMapping("/analytics/admin/rank-snapshots")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> captureRankSnapshot() {
+        return ResponseEntity.ok(Map.of("rows", rankHistoryService.captureSnapshot()));
+    }
+
+    // Store newly earned badges now instead of waiting for the hourly run
+    @PostMapping("/analytics/admin/badge-awards")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> recordBadgeAwards() {
+        return ResponseEntity.ok(Map.of("users", badgeAwardService.recordAwards()));
+    }
+
+    // Analytics cache hit/miss/eviction counters, for sizing plantrack.analytics.cache.max-entries
+    @GetMapping("/analytics/admin/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(analyticsCache.getStats());
+    }
+}
@@ -1,14 +1,33 @@
 package com.plantrack.backend.controller;
 
+import com.plantrack.backend.audit.AuditArchive;
+import com.plantrack.backend.audit.AuditLogFilter;
+import com.plantrack.backend.audit.AuditWriter;
+import com.plantrack.backend.dto.AuditLogPageDTO;
+import com.plantrack.backend.dto.AuditSearchPageDTO;
 import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.model.AuditLogItem;
 import com.plantrack.backend.repository.AuditLogRepository;
+import com.plantrack.backend.service.AuditExportService;
+import com.plantrack.backend.service.AuditQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/audit-logs")
@@ -17,11 +36,115 @@ public class AuditLogController {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private AuditWriter auditWriter;
+
+    @Autowired
+    private AuditQueryService auditQueryService;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private AuditExportService auditExportService;
+
     @GetMapping
     public ResponseEntity<List<AuditLog>> getAllAuditLogs() {
         return ResponseEntity.ok(auditLogRepository.findAll());
     }
 
+    // Bounded, filterable pages, newest first; filters combine, cursor comes from the previous page
+    // GET /api/audit-logs/query?entityType=PLAN&entityId=5&action=UPDATE&performedBy=...&from=...&to=...&limit=100&cursor=...
+    // includeArchived=true continues into the monthly archive files once the hot table is exhausted
+    @GetMapping("/query")
+    public ResponseEntity<AuditLogPageDTO> queryAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String performedBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        AuditLogFilter filter = new AuditLogFilter(entityType, entityId, action, performedBy, from, to);
+        filter.setIncludeArchived(includeArchived);
+        return ResponseEntity.ok(auditQueryService.query(filter, cursor, limit));
+    }
+
+    // Relevance-ranked full-text search over details and old/new values; optional filters narrow it
+    // GET /api/audit-logs/search?q=initiative+roadmap&entityType=INITIATIVE&page=0&size=20 (booleanMode=true for +word -word "phrase")
+    @GetMapping("/search")
+    public ResponseEntity<AuditSearchPageDTO> searchAuditLogs(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean booleanMode,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String performedBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        AuditLogFilter filter = new AuditLogFilter(entityType, entityId, action, performedBy, from, to);
+        return ResponseEntity.ok(auditQueryService.search(q, booleanMode, filter, page, size));
+    }
+
+    // Children recorded under a cascade entry; querying by one entity already includes its cascade entries
+    // GET /api/audit-logs/42/items (archived entries: ?archivedMonth=2025-01)
+    @GetMapping("/{id}/items")
+    public ResponseEntity<List<AuditLogItem>> getAuditLogItems(
+            @PathVariable Long id,
+            @RequestParam(required = false) YearMonth archivedMonth) {
+        return ResponseEntity.ok(auditQueryService.getItems(id, archivedMonth));
+    }
+
+    // Full export streamed from a database cursor, oldest first; same filters as /query
+    // GET /api/audit-logs/export?format=csv&gzip=true&entityType=PLAN&from=...&includeArchived=true
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String performedBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            NativeWebRequest webRequest) {
+        AuditLogFilter filter = new AuditLogFilter(entityType, entityId, action, performedBy, from, to);
+        filter.setIncludeArchived(includeArchived);
+        String exportFormat = auditExportService.normalizeFormat(format);
+
+        // Large exports outlive the default async timeout; extend it for this request only
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor("auditExportTimeout",
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                        ((AsyncWebRequest) request).setTimeout(auditExportService.getTimeoutMillis());
+                    }
+                });
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                auditExportService.export(filter, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                auditExportService.export(filter, exportFormat, out);
+            }
+        };
+
+        String fileName = "audit-logs." + exportFormat + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : "csv".equals(exportFormat) ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     @GetMapping("/entity/{entityType}")
     public ResponseEntity<List<AuditLog>> getByEntityType(@PathVariable String entityType) {
         return ResponseEntity.ok(auditLogRepository.findByEntityTypeOrderByTimestampDesc(entityType));
@@ -39,7 +162,8 @@ public class AuditLogController {
 
     @GetMapping("/entity/{entityType}/{entityId}")
     public ResponseEntity<List<AuditLog>> getByEntity(@PathVariable String entityType, @PathVariable Long entityId) {
-        return ResponseEntity.ok(auditLogRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc(entityType, entityId));
+        // Includes the entity's cascade items, as /query does; prefer /query for paging
+        return ResponseEntity.ok(auditQueryService.findByEntity(entityType, entityId));
     }
 
     @GetMapping("/date-range")
@@ -56,5 +180,23 @@ public class AuditLogController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
         return ResponseEntity.ok(auditLogRepository.findByPerformedByAndTimestampBetween(performedBy, startDate, endDate));
     }
-}
 
+    // Write-behind queue depth and batch counters
+    @GetMapping("/writer-stats")
+    public ResponseEntity<Map<String, Object>> getWriterStats() {
+        return ResponseEntity.ok(auditWriter.getStats());
+    }
+
+    // Hot-window cutoff and archived months with their file sizes
+    @GetMapping("/archive")
+    public ResponseEntity<Map<String, Object>> getArchiveStats() {
+        return ResponseEntity.ok(auditArchive.getStats());
+    }
+
+    // Move entries past the hot window into the archive now instead of waiting for the nightly run
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Object>> archiveNow() {
+        int archived = auditArchive.archiveExpired();
+        return ResponseEntity.ok(Map.of("archived", archived));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.plantrack.backend.event.UserChangedEvent;
 import com.plantrack.backend.model.User;
 import com.plantrack.backend.repository.UserRepository;
 import com.plantrack.backend.service.CustomUserDetailsService;
@@ -41,10 +43,14 @@ public class AuthController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @PostMapping("/register")
     public ResponseEntity<User> register(@Valid @RequestBody User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         User registeredUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.saved(registeredUser));
         return ResponseEntity.status(HttpStatus.CREATED).body(registeredUser);
     }
 
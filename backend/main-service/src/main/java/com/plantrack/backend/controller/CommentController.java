@@ -1,5 +1,6 @@
 package com.plantrack.backend.controller;
 
+import com.plantrack.backend.dto.CommentPageDTO;
 import com.plantrack.backend.model.Comment;
 import com.plantrack.backend.service.CommentService;
 import jakarta.validation.Valid;
@@ -7,6 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api")
@@ -31,6 +34,26 @@ public class CommentController {
         return commentService.getCommentsByInitiative(initiativeId);
     }
 
+    /**
+     * Keyset-paged comments for an initiative, newest first, with author and mention ids only
+     * GET /api/initiatives/{initiativeId}/comments?limit=50[&cursor=<nextCursor>]
+     */
+    @GetMapping(value = "/initiatives/{initiativeId}/comments", params = "limit")
+    public CommentPageDTO getCommentPage(@PathVariable Long initiativeId,
+                                         @RequestParam int limit,
+                                         @RequestParam(required = false) String cursor) {
+        return commentService.getCommentPage(initiativeId, cursor, limit);
+    }
+
+    /**
+     * Comment badges for a list view: non-deleted comment counts per initiative in one call
+     * GET /api/initiatives/comment-counts?ids=1,2,3
+     */
+    @GetMapping("/initiatives/comment-counts")
+    public Map<Long, Long> getCommentCounts(@RequestParam Set<Long> ids) {
+        return commentService.getCommentCounts(ids);
+    }
+
     /**
      * Update a comment
      */
@@ -1,17 +1,25 @@
 package com.plantrack.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.plantrack.backend.dto.ReportJobDTO;
+import com.plantrack.backend.dto.ReportPageDTO;
+import com.plantrack.backend.dto.ReportTrendPointDTO;
 import com.plantrack.backend.model.Report;
+import com.plantrack.backend.service.ReportJobService;
 import com.plantrack.backend.service.ReportService;
 
 @RestController
@@ -21,6 +29,9 @@ public class ReportController {
     @Autowired
     private ReportService reportService;
 
+    @Autowired
+    private ReportJobService reportJobService;
+
     // Generate a new report for a department
     // POST /api/reports/generate?department=IT
     @PostMapping("/generate")
@@ -29,6 +40,29 @@ public class ReportController {
         return ResponseEntity.status(HttpStatus.CREATED).body(generatedReport);
     }
 
+    // Queue a report and return its job at once; poll the job for the result
+    // POST /api/reports/jobs?department=IT
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobDTO> submitReportJob(@RequestParam String department) {
+        ReportJobDTO job = reportJobService.submit(department);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    // Status of a queued report, with the Report once COMPLETED
+    // GET /api/reports/jobs/{jobId}
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    // Generate reports for every department at once (also runs weekly)
+    // POST /api/reports/batch
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Integer>> generateAllReports() {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of("reports", reportService.generateAllDepartmentReports()));
+    }
+
     // Get history of reports for a department
     // GET /api/reports?department=IT
     @GetMapping
@@ -36,4 +70,27 @@ public class ReportController {
         List<Report> reports = reportService.getReportsByDepartment(department);
         return ResponseEntity.ok(reports);
     }
-}
\ No newline at end of file
+
+    // Keyset-paged history, newest first, optionally within a date range
+    // GET /api/reports?department=IT&limit=50[&from=...&to=...][&cursor=<nextCursor>]
+    @GetMapping(params = "limit")
+    public ResponseEntity<ReportPageDTO> getReportPage(
+            @RequestParam String department,
+            @RequestParam int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(reportService.getReportPage(department, from, to, cursor, limit));
+    }
+
+    // One averaged point per DAY, WEEK or MONTH, for trend charts
+    // GET /api/reports?department=IT&granularity=WEEK[&from=...&to=...]
+    @GetMapping(params = {"granularity", "!limit"})
+    public ResponseEntity<List<ReportTrendPointDTO>> getReportTrend(
+            @RequestParam String department,
+            @RequestParam String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(reportService.getReportTrend(department, granularity, from, to));
+    }
+}
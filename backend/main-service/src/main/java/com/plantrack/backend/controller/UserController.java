@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.plantrack.backend.dto.MentionSuggestionDTO;
 import com.plantrack.backend.model.User;
 import com.plantrack.backend.service.UserService;
 
@@ -48,6 +50,16 @@ public class UserController {
         return ResponseEntity.ok(usersForMentions);
     }
 
+    // Server-side autocomplete: top matches for a typed prefix, the initiative's assignees first, then managers
+    // GET /api/users/mentions?q=jo&initiativeId=12&limit=10
+    @GetMapping(value = "/mentions", params = "q")
+    public ResponseEntity<List<MentionSuggestionDTO>> suggestMentions(
+            @RequestParam String q,
+            @RequestParam(required = false) Long initiativeId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.suggestMentions(q, initiativeId, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
         User user = userService.getUserById(id);
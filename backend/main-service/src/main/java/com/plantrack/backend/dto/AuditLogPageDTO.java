@@ -0,0 +1,29 @@
+package com.plantrack.backend.dto;
+
+import com.plantrack.backend.model.AuditLog;
+
+import java.util.List;
+
+public class AuditLogPageDTO {
+    private List<AuditLog> entries;
+    private String nextCursor; // Pass back as ?cursor= for the next (older) page; null on the last page
+    private boolean hasMore;
+
+    public AuditLogPageDTO() {}
+
+    public AuditLogPageDTO(List<AuditLog> entries, String nextCursor, boolean hasMore) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<AuditLog> getEntries() { return entries; }
+    public void setEntries(List<AuditLog> entries) { this.entries = entries; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,22 @@
+package com.plantrack.backend.dto;
+
+import com.plantrack.backend.model.AuditLog;
+
+public class AuditSearchHitDTO {
+    private AuditLog entry;
+    private double score; // Full-text relevance; higher is better
+
+    public AuditSearchHitDTO() {}
+
+    public AuditSearchHitDTO(AuditLog entry, double score) {
+        this.entry = entry;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public AuditLog getEntry() { return entry; }
+    public void setEntry(AuditLog entry) { this.entry = entry; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
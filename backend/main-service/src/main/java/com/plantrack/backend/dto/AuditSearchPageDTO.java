@@ -0,0 +1,32 @@
+package com.plantrack.backend.dto;
+
+import java.util.List;
+
+public class AuditSearchPageDTO {
+    private List<AuditSearchHitDTO> hits;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    public AuditSearchPageDTO() {}
+
+    public AuditSearchPageDTO(List<AuditSearchHitDTO> hits, int page, int size, boolean hasMore) {
+        this.hits = hits;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<AuditSearchHitDTO> getHits() { return hits; }
+    public void setHits(List<AuditSearchHitDTO> hits) { this.hits = hits; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
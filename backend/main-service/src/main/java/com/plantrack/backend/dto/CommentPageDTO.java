@@ -0,0 +1,27 @@
+package com.plantrack.backend.dto;
+
+import java.util.List;
+
+public class CommentPageDTO {
+    private List<CommentThreadItemDTO> comments;
+    private String nextCursor; // Pass back as ?cursor= for the next (older) page; null on the last page
+    private boolean hasMore;
+
+    public CommentPageDTO() {}
+
+    public CommentPageDTO(List<CommentThreadItemDTO> comments, String nextCursor, boolean hasMore) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<CommentThreadItemDTO> getComments() { return comments; }
+    public void setComments(List<CommentThreadItemDTO> comments) { this.comments = comments; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
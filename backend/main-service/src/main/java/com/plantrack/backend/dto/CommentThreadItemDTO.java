@@ -0,0 +1,53 @@
+package com.plantrack.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A comment as a thread needs it: flat author fields and mention ids instead of the entity graph
+ */
+public class CommentThreadItemDTO {
+    private Long commentId;
+    private String content;
+    private Long authorId;
+    private String authorName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<Long> mentionedUserIds = new ArrayList<>();
+
+    public CommentThreadItemDTO() {}
+
+    // Used by the JPQL constructor expression in CommentRepository
+    public CommentThreadItemDTO(Long commentId, String content, Long authorId, String authorName,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.commentId = commentId;
+        this.content = content;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getCommentId() { return commentId; }
+    public void setCommentId(Long commentId) { this.commentId = commentId; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public String getAuthorName() { return authorName; }
+    public void setAuthorName(String authorName) { this.authorName = authorName; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public List<Long> getMentionedUserIds() { return mentionedUserIds; }
+    public void setMentionedUserIds(List<Long> mentionedUserIds) { this.mentionedUserIds = mentionedUserIds; }
+}
@@ -0,0 +1,27 @@
+package com.plantrack.backend.dto;
+
+import java.util.Map;
+
+public class InitiativeCountsDTO {
+    private int assigned;
+    private int completed;
+    private Map<String, Integer> byStatus; // Status -> initiatives assigned in that status
+
+    public InitiativeCountsDTO() {}
+
+    public InitiativeCountsDTO(int assigned, int completed, Map<String, Integer> byStatus) {
+        this.assigned = assigned;
+        this.completed = completed;
+        this.byStatus = byStatus;
+    }
+
+    // Getters and Setters
+    public int getAssigned() { return assigned; }
+    public void setAssigned(int assigned) { this.assigned = assigned; }
+
+    public int getCompleted() { return completed; }
+    public void setCompleted(int completed) { this.completed = completed; }
+
+    public Map<String, Integer> getByStatus() { return byStatus; }
+    public void setByStatus(Map<String, Integer> byStatus) { this.byStatus = byStatus; }
+}
@@ -0,0 +1,55 @@
+package com.plantrack.backend.dto;
+
+import com.plantrack.backend.model.Initiative;
+import com.plantrack.backend.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The parts of an initiative that per-user counters and completion rollups
+ * depend on, captured before and after a write so they can be moved by the difference.
+ */
+public class InitiativeSnapshot {
+
+    private static final InitiativeSnapshot NONE = new InitiativeSnapshot(Collections.emptySet(), null, null);
+
+    private final Set<Long> assigneeIds;
+    private final String status;
+    private final LocalDateTime completedAt;
+
+    public InitiativeSnapshot(Set<Long> assigneeIds, String status, LocalDateTime completedAt) {
+        this.assigneeIds = assigneeIds;
+        this.status = status;
+        this.completedAt = completedAt;
+    }
+
+    /** Snapshot of an initiative's current assignees and status */
+    public static InitiativeSnapshot of(Initiative initiative) {
+        Set<Long> ids = new HashSet<>();
+        if (initiative.getAssignedUsers() != null) {
+            for (User user : initiative.getAssignedUsers()) {
+                if (user.getUserId() != null) {
+                    ids.add(user.getUserId());
+                }
+            }
+        }
+        return new InitiativeSnapshot(ids, initiative.getStatus(), initiative.getCompletedAt());
+    }
+
+    /** The "initiative does not exist" side of a create or delete */
+    public static InitiativeSnapshot none() {
+        return NONE;
+    }
+
+    public Set<Long> getAssigneeIds() { return assigneeIds; }
+    public String getStatus() { return status; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+
+    /** True if this state counts towards the completion rollups */
+    public boolean isCompleted() {
+        return completedAt != null && "COMPLETED".equalsIgnoreCase(status);
+    }
+}
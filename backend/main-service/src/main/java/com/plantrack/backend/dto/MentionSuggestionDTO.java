@@ -0,0 +1,40 @@
+package com.plantrack.backend.dto;
+
+public class MentionSuggestionDTO {
+    private Long userId;
+    private String name;
+    private String email;
+    private String role;
+    private String department;
+    private boolean assignee; // Assigned to the initiative being commented on
+
+    public MentionSuggestionDTO() {}
+
+    public MentionSuggestionDTO(Long userId, String name, String email, String role, String department, boolean assignee) {
+        this.userId = userId;
+        this.name = name;
+        this.email = email;
+        this.role = role;
+        this.department = department;
+        this.assignee = assignee;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+
+    public boolean isAssignee() { return assignee; }
+    public void setAssignee(boolean assignee) { this.assignee = assignee; }
+}
@@ -0,0 +1,55 @@
+package com.plantrack.backend.dto;
+
+import com.plantrack.backend.model.Report;
+
+import java.time.LocalDateTime;
+
+public class ReportJobDTO {
+    private String jobId;
+    private String department;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Report report; // Set once COMPLETED
+    private String error;  // Set once FAILED
+
+    public ReportJobDTO() {}
+
+    public ReportJobDTO(String jobId, String department, String status, LocalDateTime submittedAt,
+                        LocalDateTime startedAt, LocalDateTime finishedAt, Report report, String error) {
+        this.jobId = jobId;
+        this.department = department;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.report = report;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public Report getReport() { return report; }
+    public void setReport(Report report) { this.report = report; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,29 @@
+package com.plantrack.backend.dto;
+
+import com.plantrack.backend.model.Report;
+
+import java.util.List;
+
+public class ReportPageDTO {
+    private List<Report> reports;
+    private String nextCursor; // Pass back as ?cursor= for the next (older) page; null on the last page
+    private boolean hasMore;
+
+    public ReportPageDTO() {}
+
+    public ReportPageDTO(List<Report> reports, String nextCursor, boolean hasMore) {
+        this.reports = reports;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<Report> getReports() { return reports; }
+    public void setReports(List<Report> reports) { this.reports = reports; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
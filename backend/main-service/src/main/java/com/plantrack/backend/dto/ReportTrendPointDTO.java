@@ -0,0 +1,43 @@
+package com.plantrack.backend.dto;
+
+import java.time.LocalDate;
+
+public class ReportTrendPointDTO {
+    private LocalDate periodStart;     // First day of the day / week / month
+    private int reportCount;           // Reports averaged into this point
+    private double avgGoalCompletion;
+    private double avgMilestoneCompletion;
+    private double avgInitiativeCompletion;
+    private double avgTotalUsers;
+
+    public ReportTrendPointDTO() {}
+
+    public ReportTrendPointDTO(LocalDate periodStart, int reportCount, double avgGoalCompletion,
+                               double avgMilestoneCompletion, double avgInitiativeCompletion, double avgTotalUsers) {
+        this.periodStart = periodStart;
+        this.reportCount = reportCount;
+        this.avgGoalCompletion = avgGoalCompletion;
+        this.avgMilestoneCompletion = avgMilestoneCompletion;
+        this.avgInitiativeCompletion = avgInitiativeCompletion;
+        this.avgTotalUsers = avgTotalUsers;
+    }
+
+    // Getters and Setters
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public int getReportCount() { return reportCount; }
+    public void setReportCount(int reportCount) { this.reportCount = reportCount; }
+
+    public double getAvgGoalCompletion() { return avgGoalCompletion; }
+    public void setAvgGoalCompletion(double avgGoalCompletion) { this.avgGoalCompletion = avgGoalCompletion; }
+
+    public double getAvgMilestoneCompletion() { return avgMilestoneCompletion; }
+    public void setAvgMilestoneCompletion(double avgMilestoneCompletion) { this.avgMilestoneCompletion = avgMilestoneCompletion; }
+
+    public double getAvgInitiativeCompletion() { return avgInitiativeCompletion; }
+    public void setAvgInitiativeCompletion(double avgInitiativeCompletion) { this.avgInitiativeCompletion = avgInitiativeCompletion; }
+
+    public double getAvgTotalUsers() { return avgTotalUsers; }
+    public void setAvgTotalUsers(double avgTotalUsers) { this.avgTotalUsers = avgTotalUsers; }
+}
@@ -0,0 +1,61 @@
+package com.plantrack.backend.event;
+
+import com.plantrack.backend.model.User;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Published by the write paths whenever data behind the analytics views changes.
+ * Carries the users (and their departments) whose analytics the write can affect,
+ * so caches can evict just those entries.
+ */
+public class AnalyticsDataChangedEvent {
+
+    private final String entityType;     // PLAN, MILESTONE, INITIATIVE, USER
+    private final Long entityId;
+    private final Set<Long> userIds;
+    private final Set<String> departments;
+    private final boolean affectsEverything;
+
+    public AnalyticsDataChangedEvent(String entityType, Long entityId, Collection<User> affectedUsers) {
+        this(entityType, entityId, new HashSet<>(), new HashSet<>(), false);
+        for (User user : affectedUsers) {
+            if (user == null) {
+                continue;
+            }
+            if (user.getUserId() != null) {
+                userIds.add(user.getUserId());
+            }
+            if (user.getDepartment() != null) {
+                departments.add(user.getDepartment());
+            }
+        }
+    }
+
+    public AnalyticsDataChangedEvent(String entityType, Long entityId, Set<Long> userIds, Set<String> departments) {
+        this(entityType, entityId, userIds, departments, false);
+    }
+
+    private AnalyticsDataChangedEvent(String entityType, Long entityId, Set<Long> userIds,
+                                      Set<String> departments, boolean affectsEverything) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.userIds = userIds;
+        this.departments = departments;
+        this.affectsEverything = affectsEverything;
+    }
+
+    /** For writes whose reach is not known cheaply (e.g. native cascades) */
+    public static AnalyticsDataChangedEvent everything(String entityType, Long entityId) {
+        return new AnalyticsDataChangedEvent(entityType, entityId, Collections.emptySet(), Collections.emptySet(), true);
+    }
+
+    public String getEntityType() { return entityType; }
+    public Long getEntityId() { return entityId; }
+    public Set<Long> getUserIds() { return userIds; }
+    public Set<String> getDepartments() { return departments; }
+    public boolean isAffectsEverything() { return affectsEverything; }
+}
@@ -0,0 +1,30 @@
+package com.plantrack.backend.event;
+
+import com.plantrack.backend.model.User;
+
+/**
+ * Published when a user is saved or deleted, so in-memory user lookups can follow
+ * once the change commits.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final User user;   // null when the user was deleted
+
+    private UserChangedEvent(Long userId, User user) {
+        this.userId = userId;
+        this.user = user;
+    }
+
+    public static UserChangedEvent saved(User user) {
+        return new UserChangedEvent(user.getUserId(), user);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(userId, null);
+    }
+
+    public Long getUserId() { return userId; }
+    public User getUser() { return user; }
+    public boolean isDeleted() { return user == null; }
+}
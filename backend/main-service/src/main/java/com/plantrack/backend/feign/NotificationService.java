@@ -10,12 +10,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.List;
+
 @FeignClient("notification-service")
 public interface NotificationService {
     @PostMapping("/api/notifications/create")
     @ResponseStatus(HttpStatus.CREATED)
     public void createNotification(@RequestBody CreateNotificationRequest req);
 
+    @PostMapping("/api/notifications/create-batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void createNotifications(@RequestBody List<CreateNotificationRequest> reqs);
+
     @PostMapping("/api/notifications/initiative-assigned")
     @ResponseStatus(HttpStatus.CREATED)
     public void notifyInitiativeAssigned(@RequestBody InitiativeAssignedRequest req);
@@ -0,0 +1,360 @@
+package com.plantrack.backend.mention;
+
+import com.plantrack.backend.event.UserChangedEvent;
+import com.plantrack.backend.model.User;
+import com.plantrack.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory lookup from an {@code @mention} to a user, so comments resolve mentions without
+ * loading the users table. Email local-parts are hashed for exact hits; names are indexed by
+ * trigram for substring hits, and sorted prefix keys serve autocomplete. Loaded on first use
+ * and kept current by {@link UserChangedEvent}s, applied once the user write commits.
+ * <p>
+ * Matching is the same as scanning all users in id order: an exact email local-part wins,
+ * otherwise the lowest-id user whose name contains the mention (or is contained in it).
+ */
+@Component
+public class UserMentionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserMentionIndex.class);
+
+    private static final Comparator<Candidate> BY_NAME =
+            Comparator.comparing(Candidate::getNameKey, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(Candidate::getUserId);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Candidate> byId = new HashMap<>();
+    private final Map<String, TreeSet<Long>> byLocalPart = new HashMap<>();
+    private final Map<String, TreeSet<Long>> byName = new HashMap<>();
+    private final Map<String, Set<Long>> byTrigram = new HashMap<>();
+    // Sorted keys for prefix walks; managers and admins also get their own, so they rank without a full scan
+    private final TreeMap<String, TreeSet<Long>> byPrefix = new TreeMap<>();
+    private final TreeMap<String, TreeSet<Long>> managersByPrefix = new TreeMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * The user a mention (without the '@', any case) refers to, or null
+     */
+    public Candidate resolve(String mention) {
+        ensureLoaded();
+        String key = mention.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            // 1. Exact email local-part
+            TreeSet<Long> local = byLocalPart.get(key);
+            if (local != null && !local.isEmpty()) {
+                return byId.get(local.first());
+            }
+
+            // 2. Lowest id among names inside the mention and names containing it
+            Long best = null;
+            for (int start = 0; start < key.length(); start++) {
+                for (int end = start + 1; end <= key.length(); end++) {
+                    TreeSet<Long> ids = byName.get(key.substring(start, end));
+                    if (ids != null && !ids.isEmpty()) {
+                        best = min(best, ids.first());
+                    }
+                }
+            }
+            for (Long id : nameCandidates(key)) {
+                Candidate candidate = byId.get(id);
+                if ((best == null || id < best) && candidate.getNameKey() != null && candidate.getNameKey().contains(key)) {
+                    best = id;
+                }
+            }
+            return best != null ? byId.get(best) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to limit active users whose email username, name or a word of the name starts with the prefix:
+     * preferred users (e.g. an initiative's assignees) first, then managers and admins, then everyone else.
+     * Each group is in name order; walks only as far into the sorted keys as the limit needs.
+     */
+    public List<Candidate> complete(String prefix, Set<Long> preferredIds, int limit) {
+        ensureLoaded();
+        String key = prefix.toLowerCase(Locale.ROOT).trim();
+        List<Candidate> result = new ArrayList<>(limit);
+        Set<Long> taken = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            // 1. Preferred users are few: check each directly
+            List<Candidate> preferred = new ArrayList<>();
+            for (Long id : preferredIds) {
+                Candidate candidate = byId.get(id);
+                if (candidate != null && candidate.isActive() && candidate.hasPrefix(key)) {
+                    preferred.add(candidate);
+                }
+            }
+            preferred.sort(BY_NAME);
+            for (Candidate candidate : preferred) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(candidate);
+                taken.add(candidate.getUserId());
+            }
+
+            // 2. Managers and admins, then everyone else
+            result.addAll(walk(managersByPrefix, key, taken, limit - result.size()));
+            result.addAll(walk(byPrefix, key, taken, limit - result.size()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Active users under the prefix in key order, skipping (and then marking) taken ones
+    private List<Candidate> walk(TreeMap<String, TreeSet<Long>> index, String key, Set<Long> taken, int wanted) {
+        List<Candidate> found = new ArrayList<>();
+        if (wanted <= 0) {
+            return found;
+        }
+        for (TreeSet<Long> ids : index.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                Candidate candidate = byId.get(id);
+                if (candidate.isActive() && taken.add(id)) {
+                    found.add(candidate);
+                    if (found.size() >= wanted) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Follow a committed user write (immediately when there is no transaction)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUser());
+        }
+    }
+
+    /** Add or refresh a user after it is saved */
+    public void put(User user) {
+        if (user.getUserId() == null) {
+            return;
+        }
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            unindex(user.getUserId());
+            index(new Candidate(user));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Forget a deleted user */
+    public void remove(Long userId) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            unindex(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Reload every user */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            byId.clear();
+            byLocalPart.clear();
+            byName.clear();
+            byTrigram.clear();
+            byPrefix.clear();
+            managersByPrefix.clear();
+            for (User user : userRepository.findAll()) {
+                index(new Candidate(user));
+            }
+            loaded = true;
+            logger.info("Built user mention index: users={}, duration={}ms", byId.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    // Users whose name may contain the key: the shortest trigram posting list, or everyone for short keys
+    private Set<Long> nameCandidates(String key) {
+        if (key.length() < 3) {
+            return byId.keySet();
+        }
+        Set<Long> smallest = null;
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            Set<Long> ids = byTrigram.get(key.substring(i, i + 3));
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private void index(Candidate candidate) {
+        byId.put(candidate.getUserId(), candidate);
+        if (candidate.getLocalPart() != null) {
+            byLocalPart.computeIfAbsent(candidate.getLocalPart(), k -> new TreeSet<>()).add(candidate.getUserId());
+        }
+        if (candidate.getNameKey() != null && !candidate.getNameKey().isEmpty()) {
+            byName.computeIfAbsent(candidate.getNameKey(), k -> new TreeSet<>()).add(candidate.getUserId());
+            for (String trigram : trigrams(candidate.getNameKey())) {
+                byTrigram.computeIfAbsent(trigram, k -> new HashSet<>()).add(candidate.getUserId());
+            }
+        }
+        for (String prefixKey : candidate.prefixKeys) {
+            byPrefix.computeIfAbsent(prefixKey, k -> new TreeSet<>()).add(candidate.getUserId());
+            if (candidate.isManagerOrAdmin()) {
+                managersByPrefix.computeIfAbsent(prefixKey, k -> new TreeSet<>()).add(candidate.getUserId());
+            }
+        }
+    }
+
+    private void unindex(Long userId) {
+        Candidate previous = byId.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        if (previous.getLocalPart() != null) {
+            removeFrom(byLocalPart, previous.getLocalPart(), userId);
+        }
+        if (previous.getNameKey() != null && !previous.getNameKey().isEmpty()) {
+            removeFrom(byName, previous.getNameKey(), userId);
+            for (String trigram : trigrams(previous.getNameKey())) {
+                removeFrom(byTrigram, trigram, userId);
+            }
+        }
+        for (String prefixKey : previous.prefixKeys) {
+            removeFrom(byPrefix, prefixKey, userId);
+            removeFrom(managersByPrefix, prefixKey, userId);
+        }
+    }
+
+    private static <S extends Set<Long>> void removeFrom(Map<String, S> index, String key, Long userId) {
+        S ids = index.get(key);
+        if (ids != null) {
+            ids.remove(userId);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static Long min(Long current, Long candidate) {
+        return current == null || candidate < current ? candidate : current;
+    }
+
+    /**
+     * What mention matching needs to know about a user, copied at index time
+     */
+    public static class Candidate {
+        private final Long userId;
+        private final String name;
+        private final String role;
+        private final String status;
+        private final String email;
+        private final String department;
+        private final String localPart; // Lowercased part of the email before '@'
+        private final String nameKey;   // Lowercased name
+        private final Set<String> prefixKeys; // Local-part, full name and each name word, for autocomplete
+
+        Candidate(User user) {
+            this.userId = user.getUserId();
+            this.name = user.getName();
+            this.role = user.getRole();
+            this.status = user.getStatus();
+            this.email = user.getEmail();
+            this.department = user.getDepartment();
+            this.localPart = user.getEmail() != null ? user.getEmail().split("@")[0].toLowerCase(Locale.ROOT) : null;
+            this.nameKey = user.getName() != null ? user.getName().toLowerCase(Locale.ROOT) : null;
+            this.prefixKeys = new HashSet<>();
+            if (localPart != null && !localPart.isEmpty()) {
+                prefixKeys.add(localPart);
+            }
+            if (nameKey != null && !nameKey.isEmpty()) {
+                prefixKeys.add(nameKey);
+                for (String word : nameKey.split("\\s+")) {
+                    if (!word.isEmpty()) {
+                        prefixKeys.add(word);
+                    }
+                }
+            }
+        }
+
+        public Long getUserId() { return userId; }
+        public String getName() { return name; }
+        public String getRole() { return role; }
+        public String getStatus() { return status; }
+        public String getEmail() { return email; }
+        public String getDepartment() { return department; }
+        public String getLocalPart() { return localPart; }
+        public String getNameKey() { return nameKey; }
+
+        public boolean isActive() { return "ACTIVE".equalsIgnoreCase(status); }
+
+        public boolean isManagerOrAdmin() {
+            return "MANAGER".equalsIgnoreCase(role) || "ADMIN".equalsIgnoreCase(role);
+        }
+
+        boolean hasPrefix(String prefix) {
+            for (String key : prefixKeys) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        // Keyset order (timestamp DESC, id DESC), alone and behind each equality filter
+        @Index(name = "idx_audit_timestamp", columnList = "timestamp, id"),
+        @Index(name = "idx_audit_entity", columnList = "entityType, entityId, timestamp, id"),
+        @Index(name = "idx_audit_performed_by", columnList = "performedBy, timestamp, id"),
+        @Index(name = "idx_audit_action", columnList = "action, timestamp, id")
+})
 public class AuditLog {
 
     @Id
@@ -0,0 +1,84 @@
+package com.plantrack.backend.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One child entity touched by a cascade, stored under its parent audit entry. The action,
+ * actor, time, new value and details are the parent's; only the entity and its previous
+ * value are kept per child.
+ */
+@Entity
+@Table(name = "audit_log_items",
+       indexes = @Index(name = "idx_audit_item_entity", columnList = "entity_type, entity_id"))
+@IdClass(AuditLogItem.ItemId.class)
+public class AuditLogItem {
+
+    @Id
+    @Column(name = "audit_log_id")
+    private Long auditLogId;
+
+    @Id
+    @Column(name = "entity_type", length = 32)
+    private String entityType;
+
+    @Id
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    private String oldValue;
+
+    public AuditLogItem() {}
+
+    public AuditLogItem(String entityType, Long entityId, String oldValue) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.oldValue = oldValue;
+    }
+
+    // Getters and Setters
+    public Long getAuditLogId() { return auditLogId; }
+    public void setAuditLogId(Long auditLogId) { this.auditLogId = auditLogId; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public String getOldValue() { return oldValue; }
+    public void setOldValue(String oldValue) { this.oldValue = oldValue; }
+
+    public static class ItemId implements Serializable {
+        private Long auditLogId;
+        private String entityType;
+        private Long entityId;
+
+        public ItemId() {}
+
+        public ItemId(Long auditLogId, String entityType, Long entityId) {
+            this.auditLogId = auditLogId;
+            this.entityType = entityType;
+            this.entityId = entityId;
+        }
+
+        public Long getAuditLogId() { return auditLogId; }
+        public String getEntityType() { return entityType; }
+        public Long getEntityId() { return entityId; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ItemId)) return false;
+            ItemId that = (ItemId) o;
+            return Objects.equals(auditLogId, that.auditLogId) && Objects.equals(entityType, that.entityType)
+                    && Objects.equals(entityId, that.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(auditLogId, entityType, entityId);
+        }
+    }
+}
@@ -9,7 +9,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+       indexes = @Index(name = "idx_comments_thread", columnList = "initiative_id, deleted, createdAt, commentId"))
 public class Comment {
 
     @Id
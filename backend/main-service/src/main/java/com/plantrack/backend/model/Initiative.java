@@ -15,6 +15,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -37,6 +38,14 @@ public class Initiative {
     @Column(nullable = false)
     private String status; // PLANNED, IN_PROGRESS, COMPLETED
 
+    // Set by setStatus whenever the status actually changes
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime statusChangedAt;
+
+    // When the initiative last became COMPLETED; cleared if it leaves that status
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+
     // --- RELATIONSHIP: Initiative belongs to a Milestone ---
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "milestone_id", nullable = false)
@@ -72,7 +81,18 @@ public class Initiative {
     public void setDescription(String description) { this.description = description; }
 
     public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public void setStatus(String status) {
+        boolean changed = this.status == null ? status != null : !this.status.equalsIgnoreCase(status);
+        if (changed) {
+            LocalDateTime now = LocalDateTime.now();
+            this.statusChangedAt = now;
+            this.completedAt = "COMPLETED".equalsIgnoreCase(status) ? now : null;
+        }
+        this.status = status;
+    }
+
+    public LocalDateTime getStatusChangedAt() { return statusChangedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
 
     public Milestone getMilestone() { return milestone; }
     public void setMilestone(Milestone milestone) { this.milestone = milestone; }
@@ -6,7 +6,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reports")
+@Table(name = "reports",
+       indexes = @Index(name = "idx_reports_scope_generated", columnList = "scope, generated_date, report_id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Report {
 
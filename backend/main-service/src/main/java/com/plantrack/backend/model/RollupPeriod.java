@@ -0,0 +1,34 @@
+package com.plantrack.backend.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum RollupPeriod {
+    DAY,
+    WEEK,    // Starts on Monday
+    MONTH;
+
+    /** First day of the period containing the given date */
+    public LocalDate start(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(DayOfWeek.MONDAY);
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    /** First day of the period before the one starting on the given date */
+    public LocalDate previous(LocalDate periodStart) {
+        switch (this) {
+            case WEEK:
+                return periodStart.minusWeeks(1);
+            case MONTH:
+                return periodStart.minusMonths(1);
+            default:
+                return periodStart.minusDays(1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.plantrack.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A badge a user has earned, with the time it was first awarded.
+ */
+@Entity
+@Table(name = "user_badges",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_badge", columnNames = {"user_id", "badge_id"}))
+public class UserBadge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long userBadgeId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "badge_id", nullable = false, length = 50)
+    private String badgeId;      // e.g. "speed_demon"
+
+    @Column(name = "awarded_at", nullable = false)
+    private LocalDateTime awardedAt;
+
+    public UserBadge() {}
+
+    // Getters and Setters
+    public Long getUserBadgeId() { return userBadgeId; }
+    public void setUserBadgeId(Long userBadgeId) { this.userBadgeId = userBadgeId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getBadgeId() { return badgeId; }
+    public void setBadgeId(String badgeId) { this.badgeId = badgeId; }
+
+    public LocalDateTime getAwardedAt() { return awardedAt; }
+    public void setAwardedAt(LocalDateTime awardedAt) { this.awardedAt = awardedAt; }
+}
@@ -0,0 +1,81 @@
+package com.plantrack.backend.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Number of initiatives a user completed per day, week and month, keyed by the
+ * period's first day. Maintained incrementally on status transitions and
+ * rebuilt nightly together with {@link UserInitiativeCounter}.
+ */
+@Entity
+@Table(name = "user_completion_rollups",
+       indexes = @Index(name = "idx_rollup_period", columnList = "period_type, period_start"))
+@IdClass(UserCompletionRollup.RollupId.class)
+public class UserCompletionRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", length = 10)
+    private RollupPeriod periodType;
+
+    @Id
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    public UserCompletionRollup() {}
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public RollupPeriod getPeriodType() { return periodType; }
+    public void setPeriodType(RollupPeriod periodType) { this.periodType = periodType; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public long getCompletedCount() { return completedCount; }
+    public void setCompletedCount(long completedCount) { this.completedCount = completedCount; }
+
+    public static class RollupId implements Serializable {
+        private Long userId;
+        private RollupPeriod periodType;
+        private LocalDate periodStart;
+
+        public RollupId() {}
+
+        public RollupId(Long userId, RollupPeriod periodType, LocalDate periodStart) {
+            this.userId = userId;
+            this.periodType = periodType;
+            this.periodStart = periodStart;
+        }
+
+        public Long getUserId() { return userId; }
+        public RollupPeriod getPeriodType() { return periodType; }
+        public LocalDate getPeriodStart() { return periodStart; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RollupId)) return false;
+            RollupId that = (RollupId) o;
+            return Objects.equals(userId, that.userId) && periodType == that.periodType
+                    && Objects.equals(periodStart, that.periodStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, periodType, periodStart);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.plantrack.backend.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Denormalized count of initiatives a user is assigned to, per initiative status.
+ * Maintained incrementally by the initiative write paths and rebuilt nightly.
+ */
+@Entity
+@Table(name = "user_initiative_counters")
+@IdClass(UserInitiativeCounter.CounterId.class)
+public class UserInitiativeCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(length = 50)
+    private String status;       // Upper-cased initiative status, e.g. "COMPLETED"
+
+    @Column(nullable = false)
+    private long initiativeCount;
+
+    public UserInitiativeCounter() {}
+
+    public UserInitiativeCounter(Long userId, String status, long initiativeCount) {
+        this.userId = userId;
+        this.status = status;
+        this.initiativeCount = initiativeCount;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getInitiativeCount() { return initiativeCount; }
+    public void setInitiativeCount(long initiativeCount) { this.initiativeCount = initiativeCount; }
+
+    public static class CounterId implements Serializable {
+        private Long userId;
+        private String status;
+
+        public CounterId() {}
+
+        public CounterId(Long userId, String status) {
+            this.userId = userId;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CounterId)) return false;
+            CounterId that = (CounterId) o;
+            return Objects.equals(userId, that.userId) && Objects.equals(status, that.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, status);
+        }
+    }
+}
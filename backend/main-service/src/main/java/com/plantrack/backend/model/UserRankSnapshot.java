@@ -0,0 +1,88 @@
+package com.plantrack.backend.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A user's overall score and ranks as they stood at the end of a week, keyed by
+ * the week's first day. Written by the weekly rank snapshot job; the latest week
+ * is what current ranks are compared against.
+ */
+@Entity
+@Table(name = "user_rank_snapshots",
+       indexes = @Index(name = "idx_rank_snapshot_period", columnList = "period_start"))
+@IdClass(UserRankSnapshot.SnapshotId.class)
+public class UserRankSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private double overallScore;
+
+    @Column(nullable = false)
+    private int globalRank;
+
+    @Column(nullable = false)
+    private int departmentRank;
+
+    @Column(nullable = false)
+    private LocalDateTime capturedAt;
+
+    public UserRankSnapshot() {}
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public double getOverallScore() { return overallScore; }
+    public void setOverallScore(double overallScore) { this.overallScore = overallScore; }
+
+    public int getGlobalRank() { return globalRank; }
+    public void setGlobalRank(int globalRank) { this.globalRank = globalRank; }
+
+    public int getDepartmentRank() { return departmentRank; }
+    public void setDepartmentRank(int departmentRank) { this.departmentRank = departmentRank; }
+
+    public LocalDateTime getCapturedAt() { return capturedAt; }
+    public void setCapturedAt(LocalDateTime capturedAt) { this.capturedAt = capturedAt; }
+
+    public static class SnapshotId implements Serializable {
+        private Long userId;
+        private LocalDate periodStart;
+
+        public SnapshotId() {}
+
+        public SnapshotId(Long userId, LocalDate periodStart) {
+            this.userId = userId;
+            this.periodStart = periodStart;
+        }
+
+        public Long getUserId() { return userId; }
+        public LocalDate getPeriodStart() { return periodStart; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SnapshotId)) return false;
+            SnapshotId that = (SnapshotId) o;
+            return Objects.equals(userId, that.userId) && Objects.equals(periodStart, that.periodStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, periodStart);
+        }
+    }
+}
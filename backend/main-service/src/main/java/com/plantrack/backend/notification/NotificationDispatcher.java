@@ -0,0 +1,149 @@
+package com.plantrack.backend.notification;
+
+import com.plantrack.backend.dto.CreateNotificationRequest;
+import com.plantrack.backend.feign.NotificationService;
+import feign.FeignException;
+import feign.RetryableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends notifications off the request thread. A dispatch leaves once the surrounding
+ * transaction commits (immediately without one), and its recipients go to
+ * notification-service in batched calls on a small bounded pool. When the pool's queue
+ * is full, the caller sends its own batch, so overload slows requests down instead of
+ * dropping notifications. Delivery stays best effort, as before: failures are logged, and a
+ * failed batch is only resent when it surely was not stored, so nobody is notified twice.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+
+    public NotificationDispatcher(@Value("${plantrack.notifications.dispatch.threads:2}") int threads,
+                                  @Value("${plantrack.notifications.dispatch.queue-capacity:500}") int queueCapacity,
+                                  @Value("${plantrack.notifications.dispatch.batch-size:100}") int batchSize) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Send these notifications after the current transaction commits
+     */
+    public void dispatch(List<CreateNotificationRequest> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<CreateNotificationRequest> copy = new ArrayList<>(notifications);
+        afterCommit(() -> submit(copy));
+    }
+
+    /**
+     * Make one notification call (e.g. a typed notify endpoint) after the current transaction commits
+     */
+    public void dispatch(Runnable call) {
+        afterCommit(() -> executor.execute(() -> {
+            try {
+                call.run();
+            } catch (RuntimeException e) {
+                logger.error("Notification call failed", e);
+            }
+        }));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void submit(List<CreateNotificationRequest> notifications) {
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            List<CreateNotificationRequest> batch = notifications.subList(from, Math.min(from + batchSize, notifications.size()));
+            executor.execute(() -> send(batch));
+        }
+    }
+
+    private void send(List<CreateNotificationRequest> batch) {
+        long startTime = System.currentTimeMillis();
+        try {
+            // 1. One call for the whole batch
+            notificationService.createNotifications(batch);
+            logger.info("Sent notification batch: count={}, duration={}ms", batch.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            // 2. The batch may have been stored anyway (e.g. a read timeout): resending could duplicate it
+            if (!isRejectedBeforeStoring(e)) {
+                logger.error("Notification batch failed, not resent: count={}", batch.size(), e);
+                return;
+            }
+
+            // 3. Nothing was stored: one call per recipient so one bad entry does not lose the rest
+            logger.warn("Notification batch rejected, sending individually: count={}", batch.size(), e);
+            for (CreateNotificationRequest notification : batch) {
+                try {
+                    notificationService.createNotification(notification);
+                } catch (Exception ex) {
+                    logger.error("Failed to send notification: userId={}, type={}, entityId={}",
+                            notification.getUserId(), notification.getType(), notification.getEntityId(), ex);
+                }
+            }
+        }
+    }
+
+    // No connection was made, or notification-service refused the request (4xx)
+    private static boolean isRejectedBeforeStoring(Exception e) {
+        if (e instanceof FeignException.FeignClientException) {
+            return true;
+        }
+        Throwable cause = e instanceof RetryableException ? e.getCause() : null;
+        return cause instanceof ConnectException || cause instanceof UnknownHostException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Notification dispatcher stopped with pending batches: queued={}", executor.getQueue().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.plantrack.backend.repository;
+
+import com.plantrack.backend.model.AuditLogItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AuditLogItemRepository extends JpaRepository<AuditLogItem, AuditLogItem.ItemId> {
+
+    List<AuditLogItem> findByAuditLogIdOrderByEntityTypeAscEntityIdAsc(Long auditLogId);
+}
@@ -1,11 +1,15 @@
 package com.plantrack.backend.repository;
 
+import com.plantrack.backend.dto.CommentThreadItemDTO;
 import com.plantrack.backend.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +23,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            "ORDER BY c.createdAt DESC")
     List<Comment> findByInitiativeIdOrderByCreatedAtDesc(@Param("initiativeId") Long initiativeId);
     
+    // Keyset page of an initiative's thread, newest first, strictly after (cursorDate, cursorId).
+    // Scalar columns only: no initiative, assignee or mention graph is loaded.
+    @Query("SELECT new com.plantrack.backend.dto.CommentThreadItemDTO(" +
+           "c.commentId, c.content, a.userId, a.name, c.createdAt, c.updatedAt) " +
+           "FROM Comment c JOIN c.author a " +
+           "WHERE c.initiative.initiativeId = :initiativeId AND c.deleted = false " +
+           "AND (c.createdAt < :cursorDate OR (c.createdAt = :cursorDate AND c.commentId < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<CommentThreadItemDTO> findThreadPage(@Param("initiativeId") Long initiativeId,
+                                              @Param("cursorDate") LocalDateTime cursorDate,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    // (comment, mentioned user) pairs for a page of comments, straight from the join table
+    @Query(value = "SELECT cm.comment_id AS commentId, cm.user_id AS userId FROM comment_mentions cm " +
+                   "WHERE cm.comment_id IN (:commentIds)", nativeQuery = true)
+    List<MentionPair> findMentionPairs(@Param("commentIds") Collection<Long> commentIds);
+
+    interface MentionPair {
+        Long getCommentId();
+        Long getUserId();
+    }
+
     // Find all comments by a specific user
     @Query("SELECT c FROM Comment c " +
            "LEFT JOIN FETCH c.initiative " +
@@ -29,4 +56,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     // Count comments for an initiative (excluding deleted)
     Long countByInitiativeInitiativeIdAndDeletedFalse(Long initiativeId);
+
+    // Non-deleted comment counts for many initiatives in one grouped query; initiatives without comments are absent
+    @Query("SELECT c.initiative.initiativeId AS initiativeId, COUNT(c) AS commentCount FROM Comment c " +
+           "WHERE c.initiative.initiativeId IN :initiativeIds AND c.deleted = false " +
+           "GROUP BY c.initiative.initiativeId")
+    List<InitiativeCommentCount> countByInitiativeIds(@Param("initiativeIds") Collection<Long> initiativeIds);
+
+    interface InitiativeCommentCount {
+        Long getInitiativeId();
+        Long getCommentCount();
+    }
 }
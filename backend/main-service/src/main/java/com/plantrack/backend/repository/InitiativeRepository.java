@@ -1,5 +1,6 @@
 package com.plantrack.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +12,8 @@ import com.plantrack.backend.model.Initiative;
 
 public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
     List<Initiative> findByMilestoneMilestoneId(Long milestoneId);
+
+    long countByStatusIn(Collection<String> statuses);
     
     @Query("SELECT DISTINCT i FROM Initiative i " +
            "LEFT JOIN FETCH i.milestone m " +
@@ -22,4 +25,27 @@ public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
     @Modifying
     @Query("DELETE FROM Initiative i where i.initiativeId = :id")
     void deleteById(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // Per-department, per-status initiative counts in one grouped query. An initiative counts once
+    // per department however many of its assignees belong to it. The LEFT JOINs keep departments
+    // without any initiatives (one row with a null status and a zero count).
+    @Query(value = "SELECT u.department AS department, UPPER(i.status) AS status, " +
+                   "COUNT(DISTINCT i.initiative_id) AS initiatives " +
+                   "FROM users u " +
+                   "LEFT JOIN initiative_assignees ia ON ia.user_id = u.user_id " +
+                   "LEFT JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "WHERE u.department IS NOT NULL AND u.department <> '' " +
+                   "GROUP BY u.department, UPPER(i.status)",
+           nativeQuery = true)
+    List<DepartmentStatusCount> countByDepartmentAndStatus();
+
+    // Assignee ids alone, without loading the initiative graph
+    @Query(value = "SELECT ia.user_id FROM initiative_assignees ia WHERE ia.initiative_id = :initiativeId", nativeQuery = true)
+    List<Long> findAssigneeIds(@Param("initiativeId") Long initiativeId);
+
+    interface DepartmentStatusCount {
+        String getDepartment();
+        String getStatus();
+        Long getInitiatives();
+    }
+}
@@ -6,4 +6,6 @@ import java.util.List;
 
 public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
     List<Milestone> findByPlanPlanId(Long planId);
+
+    long countByStatus(String status);
 }
\ No newline at end of file
@@ -1,10 +1,108 @@
 package com.plantrack.backend.repository;
 
 import com.plantrack.backend.model.Report;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
     // Find reports for a specific department, ordered by newest first
     List<Report> findByScopeOrderByGeneratedDateDesc(String scope);
-}
\ No newline at end of file
+
+    // Keyset page, newest first: rows in [from, to) strictly after the (cursorDate, cursorId) position.
+    // Walks idx_reports_scope_generated backwards, so the cost does not grow with the page number.
+    @Query("SELECT r FROM Report r WHERE r.scope = :scope " +
+           "AND r.generatedDate >= :from AND r.generatedDate < :to " +
+           "AND (r.generatedDate < :cursorDate OR (r.generatedDate = :cursorDate AND r.reportId < :cursorId)) " +
+           "ORDER BY r.generatedDate DESC, r.reportId DESC")
+    List<Report> findPage(@Param("scope") String scope,
+                          @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                          @Param("cursorDate") LocalDateTime cursorDate, @Param("cursorId") Long cursorId,
+                          Pageable pageable);
+
+    // One averaged point per day / week / month (weeks start on Monday), grouped in the database
+    @Query(value = "SELECT CASE :granularity " +
+                   "  WHEN 'DAY' THEN DATE(r.generated_date) " +
+                   "  WHEN 'WEEK' THEN DATE_SUB(DATE(r.generated_date), INTERVAL WEEKDAY(r.generated_date) DAY) " +
+                   "  ELSE DATE_SUB(DATE(r.generated_date), INTERVAL DAYOFMONTH(r.generated_date) - 1 DAY) " +
+                   "END AS periodStart, " +
+                   "COUNT(*) AS reportCount, " +
+                   "AVG(r.avg_goal_completion) AS avgGoalCompletion, " +
+                   "AVG(r.avg_milestone_completion) AS avgMilestoneCompletion, " +
+                   "AVG(r.avg_initiative_completion) AS avgInitiativeCompletion, " +
+                   "AVG(r.total_users) AS avgTotalUsers " +
+                   "FROM reports r " +
+                   "WHERE r.scope = :scope AND r.generated_date >= :from AND r.generated_date < :to " +
+                   "GROUP BY periodStart ORDER BY periodStart",
+           nativeQuery = true)
+    List<TrendPoint> findTrend(@Param("scope") String scope, @Param("granularity") String granularity,
+                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Report metrics for one department in a single round trip: each figure is an aggregate
+    // filtered by department in SQL (idx_users_department, then the user_id / plan_id foreign keys).
+    // Department matching follows the column collation (case-insensitive on MySQL).
+    @Query(value = "SELECT " +
+                   "(SELECT COUNT(*) FROM users u WHERE u.department = :department) AS totalUsers, " +
+                   "(SELECT AVG(CASE WHEN p.status = 'COMPLETED' THEN 100.0 ELSE 0.0 END) " +
+                   "   FROM plans p JOIN users u ON u.user_id = p.user_id " +
+                   "   WHERE u.department = :department) AS avgGoalCompletion, " +
+                   "(SELECT AVG(m.completion_percent) " +
+                   "   FROM milestones m JOIN plans p ON p.plan_id = m.plan_id JOIN users u ON u.user_id = p.user_id " +
+                   "   WHERE u.department = :department) AS avgMilestoneCompletion, " +
+                   "(SELECT AVG(CASE WHEN i.status = 'COMPLETED' THEN 100.0 ELSE 0.0 END) " +
+                   "   FROM initiatives i " +
+                   "   WHERE i.initiative_id IN (SELECT ia.initiative_id FROM initiative_assignees ia " +
+                   "                             JOIN users u ON u.user_id = ia.user_id " +
+                   "                             WHERE u.department = :department)) AS avgInitiativeCompletion",
+           nativeQuery = true)
+    DepartmentMetrics computeDepartmentMetrics(@Param("department") String department);
+
+    // Report metrics for every department in one pass: member counts plus one grouped aggregate
+    // per table, joined on department. An initiative counts once per department it has assignees in.
+    @Query(value = "SELECT m.department AS department, m.members AS totalUsers, " +
+                   "g.avg_goal AS avgGoalCompletion, ms.avg_milestone AS avgMilestoneCompletion, " +
+                   "ini.avg_initiative AS avgInitiativeCompletion " +
+                   "FROM (SELECT department, COUNT(*) AS members FROM users " +
+                   "      WHERE department IS NOT NULL AND department <> '' GROUP BY department) m " +
+                   "LEFT JOIN (SELECT u.department, AVG(CASE WHEN p.status = 'COMPLETED' THEN 100.0 ELSE 0.0 END) AS avg_goal " +
+                   "           FROM plans p JOIN users u ON u.user_id = p.user_id GROUP BY u.department) g " +
+                   "  ON g.department = m.department " +
+                   "LEFT JOIN (SELECT u.department, AVG(mi.completion_percent) AS avg_milestone " +
+                   "           FROM milestones mi JOIN plans p ON p.plan_id = mi.plan_id JOIN users u ON u.user_id = p.user_id " +
+                   "           GROUP BY u.department) ms " +
+                   "  ON ms.department = m.department " +
+                   "LEFT JOIN (SELECT d.department, AVG(CASE WHEN d.status = 'COMPLETED' THEN 100.0 ELSE 0.0 END) AS avg_initiative " +
+                   "           FROM (SELECT DISTINCT u.department, i.initiative_id, i.status " +
+                   "                 FROM initiative_assignees ia " +
+                   "                 JOIN users u ON u.user_id = ia.user_id " +
+                   "                 JOIN initiatives i ON i.initiative_id = ia.initiative_id) d " +
+                   "           GROUP BY d.department) ini " +
+                   "  ON ini.department = m.department " +
+                   "ORDER BY m.department",
+           nativeQuery = true)
+    List<DepartmentMetricsRow> computeAllDepartmentMetrics();
+
+    interface DepartmentMetrics {
+        Long getTotalUsers();
+        Double getAvgGoalCompletion();       // null when the department owns no plans
+        Double getAvgMilestoneCompletion();
+        Double getAvgInitiativeCompletion();
+    }
+
+    interface DepartmentMetricsRow extends DepartmentMetrics {
+        String getDepartment();
+    }
+
+    interface TrendPoint {
+        Object getPeriodStart();             // DATE; driver-dependent Java type
+        Long getReportCount();
+        Double getAvgGoalCompletion();
+        Double getAvgMilestoneCompletion();
+        Double getAvgInitiativeCompletion();
+        Double getAvgTotalUsers();
+    }
+}
@@ -0,0 +1,14 @@
+package com.plantrack.backend.repository;
+
+import com.plantrack.backend.model.UserBadge;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
+
+    List<UserBadge> findByUserId(Long userId);
+
+    List<UserBadge> findByUserIdIn(Collection<Long> userIds);
+}
@@ -0,0 +1,96 @@
+package com.plantrack.backend.repository;
+
+import com.plantrack.backend.model.RollupPeriod;
+import com.plantrack.backend.model.UserCompletionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserCompletionRollupRepository extends JpaRepository<UserCompletionRollup, UserCompletionRollup.RollupId> {
+
+    // Range read on the primary key (user_id, period_type, period_start)
+    List<UserCompletionRollup> findByUserIdAndPeriodTypeAndPeriodStartGreaterThanEqual(
+            Long userId, RollupPeriod periodType, LocalDate from);
+
+    // Range read on idx_rollup_period for all users at once
+    List<UserCompletionRollup> findByPeriodTypeAndPeriodStartGreaterThanEqual(RollupPeriod periodType, LocalDate from);
+
+    // Upsert: add delta to the (user, period) bucket, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO user_completion_rollups (user_id, period_type, period_start, completed_count) " +
+                   "VALUES (:userId, :periodType, :periodStart, :delta) " +
+                   "ON DUPLICATE KEY UPDATE completed_count = completed_count + :delta",
+           nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("periodType") String periodType,
+                   @Param("periodStart") LocalDate periodStart, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_completion_rollups WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    // Take back the completions that disappear when a user's plans are deleted with them
+    @Modifying
+    @Query(value = "UPDATE user_completion_rollups r " +
+                   "JOIN (SELECT ia.user_id, 'DAY' AS period_type, DATE(i.completed_at) AS period_start, COUNT(*) AS n " +
+                   "      FROM initiative_assignees ia " +
+                   "      JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "      JOIN milestones m ON m.milestone_id = i.milestone_id " +
+                   "      JOIN plans p ON p.plan_id = m.plan_id " +
+                   "      WHERE p.user_id = :ownerId AND i.completed_at IS NOT NULL " +
+                   "      GROUP BY ia.user_id, DATE(i.completed_at) " +
+                   "      UNION ALL " +
+                   "      SELECT ia.user_id, 'WEEK', DATE_SUB(DATE(i.completed_at), INTERVAL WEEKDAY(i.completed_at) DAY), COUNT(*) " +
+                   "      FROM initiative_assignees ia " +
+                   "      JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "      JOIN milestones m ON m.milestone_id = i.milestone_id " +
+                   "      JOIN plans p ON p.plan_id = m.plan_id " +
+                   "      WHERE p.user_id = :ownerId AND i.completed_at IS NOT NULL " +
+                   "      GROUP BY ia.user_id, DATE_SUB(DATE(i.completed_at), INTERVAL WEEKDAY(i.completed_at) DAY) " +
+                   "      UNION ALL " +
+                   "      SELECT ia.user_id, 'MONTH', DATE_SUB(DATE(i.completed_at), INTERVAL DAYOFMONTH(i.completed_at) - 1 DAY), COUNT(*) " +
+                   "      FROM initiative_assignees ia " +
+                   "      JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "      JOIN milestones m ON m.milestone_id = i.milestone_id " +
+                   "      JOIN plans p ON p.plan_id = m.plan_id " +
+                   "      WHERE p.user_id = :ownerId AND i.completed_at IS NOT NULL " +
+                   "      GROUP BY ia.user_id, DATE_SUB(DATE(i.completed_at), INTERVAL DAYOFMONTH(i.completed_at) - 1 DAY)) d " +
+                   "  ON d.user_id = r.user_id AND d.period_type = r.period_type AND d.period_start = r.period_start " +
+                   "SET r.completed_count = r.completed_count - d.n",
+           nativeQuery = true)
+    void subtractPlansOwnedBy(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_completion_rollups", nativeQuery = true)
+    void deleteAllRollups();
+
+    // Recompute one period type from the completion timestamps of currently completed initiatives
+    @Modifying
+    @Query(value = "INSERT INTO user_completion_rollups (user_id, period_type, period_start, completed_count) " +
+                   "SELECT ia.user_id, 'DAY', DATE(i.completed_at), COUNT(*) " +
+                   "FROM initiative_assignees ia " +
+                   "JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "WHERE UPPER(i.status) = 'COMPLETED' AND i.completed_at IS NOT NULL " +
+                   "GROUP BY ia.user_id, DATE(i.completed_at)",
+           nativeQuery = true)
+    int rebuildDays();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_completion_rollups (user_id, period_type, period_start, completed_count) " +
+                   "SELECT user_id, 'WEEK', DATE_SUB(period_start, INTERVAL WEEKDAY(period_start) DAY), SUM(completed_count) " +
+                   "FROM user_completion_rollups WHERE period_type = 'DAY' " +
+                   "GROUP BY user_id, DATE_SUB(period_start, INTERVAL WEEKDAY(period_start) DAY)",
+           nativeQuery = true)
+    int rebuildWeeksFromDays();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_completion_rollups (user_id, period_type, period_start, completed_count) " +
+                   "SELECT user_id, 'MONTH', DATE_SUB(period_start, INTERVAL DAYOFMONTH(period_start) - 1 DAY), SUM(completed_count) " +
+                   "FROM user_completion_rollups WHERE period_type = 'DAY' " +
+                   "GROUP BY user_id, DATE_SUB(period_start, INTERVAL DAYOFMONTH(period_start) - 1 DAY)",
+           nativeQuery = true)
+    int rebuildMonthsFromDays();
+}
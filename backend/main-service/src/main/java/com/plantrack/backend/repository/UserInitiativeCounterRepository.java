@@ -0,0 +1,55 @@
+package com.plantrack.backend.repository;
+
+import com.plantrack.backend.model.UserInitiativeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserInitiativeCounterRepository extends JpaRepository<UserInitiativeCounter, UserInitiativeCounter.CounterId> {
+
+    List<UserInitiativeCounter> findByUserId(Long userId);
+
+    // Upsert: add delta to the (user, status) counter, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO user_initiative_counters (user_id, status, initiative_count) " +
+                   "VALUES (:userId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE initiative_count = initiative_count + :delta",
+           nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_initiative_counters WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    // Take back the assignments that disappear when a user's plans are deleted with them
+    @Modifying
+    @Query(value = "UPDATE user_initiative_counters c " +
+                   "JOIN (SELECT ia.user_id, UPPER(i.status) AS status, COUNT(*) AS n " +
+                   "      FROM initiative_assignees ia " +
+                   "      JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "      JOIN milestones m ON m.milestone_id = i.milestone_id " +
+                   "      JOIN plans p ON p.plan_id = m.plan_id " +
+                   "      WHERE p.user_id = :ownerId " +
+                   "      GROUP BY ia.user_id, UPPER(i.status)) d " +
+                   "  ON d.user_id = c.user_id AND d.status = c.status " +
+                   "SET c.initiative_count = c.initiative_count - d.n",
+           nativeQuery = true)
+    void subtractPlansOwnedBy(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_initiative_counters", nativeQuery = true)
+    void deleteAllCounters();
+
+    // Recompute every counter from the assignment join table
+    @Modifying
+    @Query(value = "INSERT INTO user_initiative_counters (user_id, status, initiative_count) " +
+                   "SELECT ia.user_id, UPPER(i.status), COUNT(*) " +
+                   "FROM initiative_assignees ia " +
+                   "JOIN initiatives i ON i.initiative_id = ia.initiative_id " +
+                   "GROUP BY ia.user_id, UPPER(i.status)",
+           nativeQuery = true)
+    int rebuildFromAssignments();
+}
@@ -0,0 +1,23 @@
+package com.plantrack.backend.repository;
+
+import com.plantrack.backend.model.UserRankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserRankSnapshotRepository extends JpaRepository<UserRankSnapshot, UserRankSnapshot.SnapshotId> {
+
+    // Read off idx_rank_snapshot_period
+    @Query("SELECT MAX(s.periodStart) FROM UserRankSnapshot s")
+    LocalDate findLatestPeriodStart();
+
+    List<UserRankSnapshot> findByPeriodStart(LocalDate periodStart);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_rank_snapshots WHERE period_start < :before", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
@@ -9,4 +9,7 @@ import com.plantrack.backend.model.User;
 public interface UserRepository extends JpaRepository<User, Long> {
     // Add this lookup method
     java.util.Optional<User> findByEmail(String email);
+
+    // e.g. findByRole("ADMIN")
+    java.util.List<User> findByRole(String role);
 }
\ No newline at end of file
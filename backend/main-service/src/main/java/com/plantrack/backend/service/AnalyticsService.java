@@ -1,6 +1,8 @@
 package com.plantrack.backend.service;
 
 import com.plantrack.backend.dto.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -57,6 +59,15 @@ public interface AnalyticsService {
                                                      Integer minTasks, Integer maxTasks,
                                                      String performanceTier, String sortBy, String sortOrder);
 
+    /**
+     * Get one page of gamified velocity; filters and sorting run over precomputed metrics
+     */
+    Page<GamifiedVelocityDTO> getGamifiedVelocityPage(String departmentFilter, String searchQuery,
+                                                      Double minCompletionRate, Double maxCompletionRate,
+                                                      Integer minTasks, Integer maxTasks,
+                                                      String performanceTier, String sortBy, String sortOrder,
+                                                      Pageable pageable);
+
     /**
      * Get all available departments
      */
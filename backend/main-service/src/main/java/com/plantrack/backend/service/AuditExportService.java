@@ -0,0 +1,20 @@
+package com.plantrack.backend.service;
+
+import com.plantrack.backend.audit.AuditLogFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AuditExportService {
+
+    /**
+     * Write every matching entry, oldest first, as "ndjson" or "csv" without holding them in memory
+     */
+    void export(AuditLogFilter filter, String format, OutputStream out) throws IOException;
+
+    /** Reject unknown formats before the response starts streaming */
+    String normalizeFormat(String format);
+
+    /** How long one export response may stream */
+    long getTimeoutMillis();
+}
@@ -0,0 +1,34 @@
+package com.plantrack.backend.service;
+
+import com.plantrack.backend.audit.AuditLogFilter;
+import com.plantrack.backend.dto.AuditLogPageDTO;
+import com.plantrack.backend.dto.AuditSearchPageDTO;
+import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.model.AuditLogItem;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface AuditQueryService {
+
+    /**
+     * One page of matching audit entries, newest first. Pass the previous page's nextCursor to continue.
+     */
+    AuditLogPageDTO query(AuditLogFilter filter, String cursor, int limit);
+
+    /**
+     * Child entities recorded under a cascade entry, from the hot table or, when given its month, the archive
+     */
+    List<AuditLogItem> getItems(Long auditLogId, YearMonth archivedMonth);
+
+    /**
+     * Every hot-table entry for one entity, newest first, including the cascade items recorded under other entries
+     */
+    List<AuditLog> findByEntity(String entityType, Long entityId);
+
+    /**
+     * Full-text search over details and old/new values, most relevant first, narrowed by the filter.
+     * booleanMode takes MySQL boolean syntax (+required -excluded "phrase" prefix*).
+     */
+    AuditSearchPageDTO search(String text, boolean booleanMode, AuditLogFilter filter, int page, int size);
+}
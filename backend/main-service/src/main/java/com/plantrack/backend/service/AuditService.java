@@ -1,11 +1,17 @@
 package com.plantrack.backend.service;
 
+import com.plantrack.backend.model.AuditLogItem;
+
+import java.util.List;
+
 public interface AuditService {
 
     public void logCreate(String entityType, Long entityId, String details);
     public void logUpdate(String entityType, Long entityId, String details);
     public void logDelete(String entityType, Long entityId, String details);
     public void logStatusChange(String entityType, Long entityId, String oldStatus, String newStatus, String details);
+    public void logCascadeStatusChange(String entityType, Long entityId, String oldStatus, String newStatus, String details,
+                                       List<AuditLogItem> items);
 
 }
 
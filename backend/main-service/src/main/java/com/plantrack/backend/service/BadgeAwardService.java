@@ -0,0 +1,10 @@
+package com.plantrack.backend.service;
+
+public interface BadgeAwardService {
+
+    /**
+     * Store every badge users have earned but not been awarded yet, dated now.
+     * Returns the number of users who received a new badge.
+     */
+    int recordAwards();
+}
@@ -1,13 +1,18 @@
 package com.plantrack.backend.service;
 
+import com.plantrack.backend.dto.CommentPageDTO;
 import com.plantrack.backend.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CommentService {
 
     public Comment createComment(Long initiativeId, Comment comment);
     public List<Comment> getCommentsByInitiative(Long initiativeId);
+    public CommentPageDTO getCommentPage(Long initiativeId, String cursor, int limit);
+    public Map<Long, Long> getCommentCounts(Collection<Long> initiativeIds);
     public Comment updateComment(Long commentId, Comment updatedComment);
     public void deleteComment(Long commentId);
 
@@ -0,0 +1,48 @@
+package com.plantrack.backend.service;
+
+import com.plantrack.backend.dto.InitiativeCountsDTO;
+import com.plantrack.backend.dto.InitiativeSnapshot;
+import com.plantrack.backend.model.RollupPeriod;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface InitiativeStatsService {
+
+    /**
+     * Move the per-user counters and completion rollups from the "before" state of an initiative
+     * to its "after" state. Runs in the caller's transaction.
+     */
+    void recordChange(InitiativeSnapshot before, InitiativeSnapshot after);
+
+    /**
+     * Counters for one user (zeroes if the user has no assignments)
+     */
+    InitiativeCountsDTO getCounts(Long userId);
+
+    /**
+     * Counters for every user that has at least one assignment, keyed by user ID
+     */
+    Map<Long, InitiativeCountsDTO> getAllCounts();
+
+    /**
+     * Completions for one user per period, keyed by period start, from the given date onwards.
+     * Periods without completions are absent.
+     */
+    Map<LocalDate, Integer> getCompletions(Long userId, RollupPeriod period, LocalDate from);
+
+    /**
+     * Completions per period for every user with at least one in range, keyed by user ID
+     */
+    Map<Long, Map<LocalDate, Integer>> getAllCompletions(RollupPeriod period, LocalDate from);
+
+    /**
+     * Drop a user's counters and the assignments under plans they own, before the user is deleted
+     */
+    void removeUser(Long userId);
+
+    /**
+     * Recompute all counters and rollups from the assignment tables
+     */
+    void rebuild();
+}
@@ -0,0 +1,11 @@
+package com.plantrack.backend.service;
+
+public interface RankHistoryService {
+
+    /**
+     * Store every user's current overall score, global rank and department rank as the
+     * snapshot for the week that just ended, replacing an earlier snapshot of that week.
+     * Returns the number of rows written.
+     */
+    int captureSnapshot();
+}
@@ -0,0 +1,17 @@
+package com.plantrack.backend.service;
+
+import com.plantrack.backend.dto.ReportJobDTO;
+
+public interface ReportJobService {
+
+    /**
+     * Queue a department report and return its job at once. While a job for the same
+     * department is queued or running, that job is returned instead of starting another.
+     */
+    ReportJobDTO submit(String department);
+
+    /**
+     * Current state of a job; finished jobs are kept for a limited time
+     */
+    ReportJobDTO getJob(String jobId);
+}
@@ -1,7 +1,10 @@
 package com.plantrack.backend.service;
 
+import com.plantrack.backend.dto.ReportPageDTO;
+import com.plantrack.backend.dto.ReportTrendPointDTO;
 import com.plantrack.backend.model.Report;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReportService {
@@ -9,4 +12,21 @@ public interface ReportService {
     public Report generateDepartmentReport(String departmentName);
     public List<Report> getReportsByDepartment(String department);
 
+    /**
+     * One page of a department's reports, newest first, optionally within [from, to).
+     * Pass the previous page's nextCursor to continue.
+     */
+    public ReportPageDTO getReportPage(String department, LocalDateTime from, LocalDateTime to, String cursor, int limit);
+
+    /**
+     * A department's reports averaged per DAY, WEEK or MONTH within [from, to), oldest first
+     */
+    public List<ReportTrendPointDTO> getReportTrend(String department, String granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Compute and store a report for every department in one pass, then notify the admins.
+     * Returns the number of reports stored.
+     */
+    public int generateAllDepartmentReports();
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.plantrack.backend.service;    
     
+import com.plantrack.backend.dto.MentionSuggestionDTO;
 import com.plantrack.backend.model.User;    
 
 import java.util.List;    
@@ -11,5 +12,6 @@ public interface UserService {
     public User getUserById(Long id);
     public User updateUser(Long id, User userDetails);
     public void deleteUser(Long id);
+    public List<MentionSuggestionDTO> suggestMentions(String prefix, Long initiativeId, int limit);
 
 }
\ No newline at end of file
@@ -1,24 +1,34 @@
 package com.plantrack.backend.service.impl;
 
+import com.plantrack.backend.analytics.AnalyticsCache;
+import com.plantrack.backend.analytics.BadgeEngine;
+import com.plantrack.backend.analytics.CacheScope;
+import com.plantrack.backend.analytics.CompletionTrends;
+import com.plantrack.backend.analytics.DashboardStatsSnapshot;
+import com.plantrack.backend.analytics.PerformanceRankingEngine;
+import com.plantrack.backend.analytics.RankingTable;
+import com.plantrack.backend.analytics.UserRanking;
 import com.plantrack.backend.dto.*;
 import com.plantrack.backend.dto.AnalyticsDTO;
-import com.plantrack.backend.model.Initiative;
-import com.plantrack.backend.model.Milestone;
 import com.plantrack.backend.model.Plan;
 import com.plantrack.backend.model.PlanStatus;
+import com.plantrack.backend.model.RollupPeriod;
 import com.plantrack.backend.model.User;
 import com.plantrack.backend.repository.InitiativeRepository;
 import com.plantrack.backend.repository.MilestoneRepository;
 import com.plantrack.backend.repository.PlanRepository;
 import com.plantrack.backend.repository.UserRepository;
 import com.plantrack.backend.service.AnalyticsService;
+import com.plantrack.backend.service.InitiativeStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.Comparator;
@@ -27,6 +37,12 @@ import java.util.Comparator;
 public class AnalyticsServiceImpl implements AnalyticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+    private static final List<String> ACTIVE_INITIATIVE_STATUSES = Arrays.asList("IN_PROGRESS", "PLANNED");
+    private static final int VELOCITY_WEEKS = 8;
+    private static final int VELOCITY_MONTHS = 6;
+    // How far back streaks are followed
+    private static final int STREAK_LOOKBACK_DAYS = 366;
+    private static final int STREAK_LOOKBACK_WEEKS = 53;
 
     @Autowired
     private PlanRepository planRepository;
@@ -40,7 +56,26 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PerformanceRankingEngine rankingEngine;
+
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+
+    @Autowired
+    private DashboardStatsSnapshot dashboardStatsSnapshot;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private BadgeEngine badgeEngine;
+
     public AnalyticsDTO getUserAnalytics(Long userId) {
+        return analyticsCache.get(CacheScope.user(userId), "userAnalytics", () -> computeUserAnalytics(userId), userId);
+    }
+
+    private AnalyticsDTO computeUserAnalytics(Long userId) {
         logger.debug("Calculating user analytics: userId={}", userId);
         
         // 1. Fetch all plans for the user
@@ -69,33 +104,23 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new AnalyticsDTO(totalPlans, completedPlans, pendingPlans, percentage);
     }
 
+    // One scored ranking pass shared by every ranking-based result until the next write
+    private RankingTable rankings() {
+        return analyticsCache.get(CacheScope.global(), "rankings", rankingEngine::computeRankings);
+    }
+
     public DashboardStatsDTO getDashboardStats() {
+        return dashboardStatsSnapshot.get(this::loadDashboardStats);
+    }
+
+    private DashboardStatsDTO loadDashboardStats() {
         logger.debug("Calculating dashboard statistics");
         long startTime = System.currentTimeMillis();
-        
-        // Get total plans
-        int totalPlans = (int) planRepository.count();
-
-        // Get active initiatives (status is IN_PROGRESS or PLANNED)
-        List<Initiative> allInitiatives = initiativeRepository.findAll();
-        int activeInitiatives = 0;
-        for (Initiative initiative : allInitiatives) {
-            String status = initiative.getStatus();
-            if (status != null && (status.equals("IN_PROGRESS") || status.equals("PLANNED"))) {
-                activeInitiatives++;
-            }
-        }
-
-        // Get completed milestones
-        List<Milestone> allMilestones = milestoneRepository.findAll();
-        int completedMilestones = 0;
-        for (Milestone milestone : allMilestones) {
-            if (milestone.getStatus() != null && milestone.getStatus().equals("COMPLETED")) {
-                completedMilestones++;
-            }
-        }
 
-        // Get total users
+        // Four COUNT queries; no entities are loaded
+        int totalPlans = (int) planRepository.count();
+        int activeInitiatives = (int) initiativeRepository.countByStatusIn(ACTIVE_INITIATIVE_STATUSES);
+        int completedMilestones = (int) milestoneRepository.countByStatus("COMPLETED");
         int totalUsers = (int) userRepository.count();
 
         long duration = System.currentTimeMillis() - startTime;
@@ -109,37 +134,31 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Get departmental insights - analyze performance by department
      */
     public List<DepartmentalInsightsDTO> getDepartmentalInsights() {
-        List<User> allUsers = userRepository.findAll();
-        Map<String, List<User>> usersByDepartment = allUsers.stream()
-                .filter(u -> u.getDepartment() != null && !u.getDepartment().isEmpty())
-                .collect(Collectors.groupingBy(User::getDepartment));
+        return analyticsCache.get(CacheScope.global(), "departmentalInsights", this::computeDepartmentalInsights);
+    }
+
+    private List<DepartmentalInsightsDTO> computeDepartmentalInsights() {
+        long startTime = System.currentTimeMillis();
+
+        // One grouped query: department -> status -> distinct initiatives
+        Map<String, Map<String, Integer>> countsByDepartment = new LinkedHashMap<>();
+        for (InitiativeRepository.DepartmentStatusCount row : initiativeRepository.countByDepartmentAndStatus()) {
+            Map<String, Integer> statusCounts = countsByDepartment.computeIfAbsent(row.getDepartment(), d -> new HashMap<>());
+            if (row.getStatus() != null) {
+                statusCounts.put(row.getStatus(), row.getInitiatives().intValue());
+            }
+        }
 
         List<DepartmentalInsightsDTO> insights = new ArrayList<>();
 
-        for (Map.Entry<String, List<User>> entry : usersByDepartment.entrySet()) {
+        for (Map.Entry<String, Map<String, Integer>> entry : countsByDepartment.entrySet()) {
             String department = entry.getKey();
-            List<User> departmentUsers = entry.getValue();
-            List<Long> userIds = departmentUsers.stream()
-                    .map(User::getUserId)
-                    .collect(Collectors.toList());
-
-            // Get all initiatives assigned to users in this department
-            List<Initiative> departmentInitiatives = initiativeRepository.findAll().stream()
-                    .filter(i -> i.getAssignedUsers() != null && !i.getAssignedUsers().isEmpty() &&
-                            i.getAssignedUsers().stream()
-                                    .anyMatch(user -> userIds.contains(user.getUserId())))
-                    .collect(Collectors.toList());
+            Map<String, Integer> statusCounts = entry.getValue();
 
-            int total = departmentInitiatives.size();
-            int completed = (int) departmentInitiatives.stream()
-                    .filter(i -> "COMPLETED".equalsIgnoreCase(i.getStatus()))
-                    .count();
-            int inProgress = (int) departmentInitiatives.stream()
-                    .filter(i -> "IN_PROGRESS".equalsIgnoreCase(i.getStatus()))
-                    .count();
-            int planned = (int) departmentInitiatives.stream()
-                    .filter(i -> "PLANNED".equalsIgnoreCase(i.getStatus()))
-                    .count();
+            int total = statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+            int completed = statusCounts.getOrDefault("COMPLETED", 0);
+            int inProgress = statusCounts.getOrDefault("IN_PROGRESS", 0);
+            int planned = statusCounts.getOrDefault("PLANNED", 0);
 
             double completionRate = total > 0 ? ((double) completed / total) * 100 : 0.0;
 
@@ -162,6 +181,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             ));
         }
 
+        logger.debug("Departmental insights calculated: departments={}, duration={}ms",
+                insights.size(), System.currentTimeMillis() - startTime);
         return insights;
     }
 
@@ -169,42 +190,44 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Get velocity metrics for a specific user
      */
     public VelocityMetricsDTO getUserVelocity(Long userId) {
+        return analyticsCache.get(CacheScope.user(userId), "userVelocity", () -> computeUserVelocity(userId), userId);
+    }
+
+    private VelocityMetricsDTO computeUserVelocity(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Get all initiatives assigned to this user
-        List<Initiative> userInitiatives = initiativeRepository.findAll().stream()
-                .filter(i -> i.getAssignedUsers() != null && !i.getAssignedUsers().isEmpty() &&
-                        i.getAssignedUsers().stream()
-                                .anyMatch(assignedUser -> assignedUser.getUserId().equals(userId)))
-                .collect(Collectors.toList());
-
-        int tasksAssigned = userInitiatives.size();
-        int tasksCompleted = (int) userInitiatives.stream()
-                .filter(i -> "COMPLETED".equalsIgnoreCase(i.getStatus()))
-                .count();
+        // Maintained counters: no scan of the initiatives table
+        InitiativeCountsDTO counts = initiativeStatsService.getCounts(userId);
+        int tasksAssigned = counts.getAssigned();
+        int tasksCompleted = counts.getCompleted();
 
         double completionRate = tasksAssigned > 0 ? ((double) tasksCompleted / tasksAssigned) * 100 : 0.0;
 
-        // Weekly velocity (simplified - would need createdDate/completedDate in real system)
-        Map<LocalDate, Integer> weeklyVelocity = new HashMap<>();
+        // Weekly velocity from the completion rollups (last 8 weeks, keyed by Monday)
         LocalDate now = LocalDate.now();
-        for (int i = 0; i < 8; i++) {
-            LocalDate weekStart = now.minusWeeks(i).with(java.time.DayOfWeek.MONDAY);
-            weeklyVelocity.put(weekStart, 0); // Placeholder
+        Map<LocalDate, Integer> weeklyCompletions = initiativeStatsService.getCompletions(userId, RollupPeriod.WEEK,
+                CompletionTrends.windowStart(RollupPeriod.WEEK, now, VELOCITY_WEEKS));
+        Map<LocalDate, Integer> weeklyVelocity = new HashMap<>();
+        LocalDate weekStart = RollupPeriod.WEEK.start(now);
+        for (int i = 0; i < VELOCITY_WEEKS; i++) {
+            weeklyVelocity.put(weekStart, weeklyCompletions.getOrDefault(weekStart, 0));
+            weekStart = weekStart.minusWeeks(1);
         }
 
-        // Monthly velocity
+        // Monthly velocity (last 6 months, keyed by yyyy-MM)
+        Map<LocalDate, Integer> monthlyCompletions = initiativeStatsService.getCompletions(userId, RollupPeriod.MONTH,
+                CompletionTrends.windowStart(RollupPeriod.MONTH, now, VELOCITY_MONTHS));
         Map<String, Integer> monthlyVelocity = new HashMap<>();
-        for (int i = 0; i < 6; i++) {
-            LocalDate monthStart = now.minusMonths(i).withDayOfMonth(1);
+        LocalDate monthStart = RollupPeriod.MONTH.start(now);
+        for (int i = 0; i < VELOCITY_MONTHS; i++) {
             String monthKey = monthStart.getYear() + "-" + String.format("%02d", monthStart.getMonthValue());
-            monthlyVelocity.put(monthKey, 0); // Placeholder
+            monthlyVelocity.put(monthKey, monthlyCompletions.getOrDefault(monthStart, 0));
+            monthStart = monthStart.minusMonths(1);
         }
 
-        // Calculate averages (simplified)
-        double averageTasksPerWeek = tasksCompleted / 8.0; // Over last 8 weeks
-        double averageTasksPerMonth = tasksCompleted / 6.0; // Over last 6 months
+        double averageTasksPerWeek = weeklyVelocity.values().stream().mapToInt(Integer::intValue).sum() / (double) VELOCITY_WEEKS;
+        double averageTasksPerMonth = monthlyVelocity.values().stream().mapToInt(Integer::intValue).sum() / (double) VELOCITY_MONTHS;
 
         return new VelocityMetricsDTO(
                 userId, user.getName(), user.getDepartment(),
@@ -218,6 +241,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Get velocity metrics for all users (team performance)
      */
     public List<VelocityMetricsDTO> getAllUsersVelocity() {
+        return analyticsCache.get(CacheScope.global(), "allUsersVelocity", this::computeAllUsersVelocity);
+    }
+
+    private List<VelocityMetricsDTO> computeAllUsersVelocity() {
         List<User> allUsers = userRepository.findAll();
         return allUsers.stream()
                 .map(u -> getUserVelocity(u.getUserId()))
@@ -232,100 +259,25 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Calculate performance score for a user with proper department-wise ranking
      */
     public PerformanceScoreDTO calculatePerformanceScore(Long userId, String departmentFilter) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Get user's initiatives
-        List<Initiative> userInitiatives = initiativeRepository.findAll().stream()
-                .filter(i -> i.getAssignedUsers() != null && !i.getAssignedUsers().isEmpty() &&
-                        i.getAssignedUsers().stream()
-                                .anyMatch(assignedUser -> assignedUser.getUserId().equals(userId)))
-                .collect(Collectors.toList());
-
-        int tasksAssigned = userInitiatives.size();
-        int tasksCompleted = (int) userInitiatives.stream()
-                .filter(i -> "COMPLETED".equalsIgnoreCase(i.getStatus()))
-                .count();
-
-        double completionRate = tasksAssigned > 0 ? ((double) tasksCompleted / tasksAssigned) * 100 : 0.0;
-
-        // Speed score: based on completion rate and average tasks per week
-        double averageTasksPerWeek = tasksCompleted / 8.0;
-        double speedScore = Math.min(100, (averageTasksPerWeek / 5.0) * 100); // Normalize to 5 tasks/week = 100
-
-        // Quality score: based on completion rate
-        double qualityScore = completionRate;
-
-        // Consistency score: variance in completion (simplified - would need historical data)
-        double consistencyScore = completionRate > 80 ? 90.0 : completionRate > 50 ? 70.0 : 50.0;
-
-        // Overall weighted score
-        double overallScore = (completionRate * 0.4) + (speedScore * 0.3) + (qualityScore * 0.2) + (consistencyScore * 0.1);
-
-        // Determine performance tier
-        String performanceTier = overallScore >= 85 ? "TOP_PERFORMER" :
-                                 overallScore >= 65 ? "CONSISTENT" : "NEEDS_IMPROVEMENT";
-
-        // Calculate actual ranks by comparing with all users
-        List<User> allUsers = userRepository.findAll();
-        List<PerformanceScoreDTO> allScores = allUsers.stream()
-                .map(u -> {
-                    List<Initiative> uInitiatives = initiativeRepository.findAll().stream()
-                            .filter(i -> i.getAssignedUsers() != null && !i.getAssignedUsers().isEmpty() &&
-                                    i.getAssignedUsers().stream()
-                                            .anyMatch(au -> au.getUserId().equals(u.getUserId())))
-                            .collect(Collectors.toList());
-                    int uTasksAssigned = uInitiatives.size();
-                    int uTasksCompleted = (int) uInitiatives.stream()
-                            .filter(i -> "COMPLETED".equalsIgnoreCase(i.getStatus()))
-                            .count();
-                    double uCompletionRate = uTasksAssigned > 0 ? ((double) uTasksCompleted / uTasksAssigned) * 100 : 0.0;
-                    double uAvgTasksPerWeek = uTasksCompleted / 8.0;
-                    double uSpeedScore = Math.min(100, (uAvgTasksPerWeek / 5.0) * 100);
-                    double uQualityScore = uCompletionRate;
-                    double uConsistencyScore = uCompletionRate > 80 ? 90.0 : uCompletionRate > 50 ? 70.0 : 50.0;
-                    double uOverallScore = (uCompletionRate * 0.4) + (uSpeedScore * 0.3) + (uQualityScore * 0.2) + (uConsistencyScore * 0.1);
-                    return new PerformanceScoreDTO(u.getUserId(), u.getName(), u.getDepartment(),
-                            uOverallScore, uCompletionRate, uSpeedScore, uQualityScore, uConsistencyScore,
-                            0, 0, 0, 0, "", 0.0);
-                })
-                .sorted(Comparator.comparing(PerformanceScoreDTO::getOverallScore).reversed())
-                .collect(Collectors.toList());
-
-        // Calculate overall rank
-        int rank = 1;
-        for (int i = 0; i < allScores.size(); i++) {
-            if (allScores.get(i).getUserId().equals(userId)) {
-                rank = i + 1;
-                break;
-            }
-        }
-
-        // Calculate department rank
-        List<PerformanceScoreDTO> departmentScores = allScores.stream()
-                .filter(s -> user.getDepartment() != null && 
-                            s.getDepartment() != null && 
-                            s.getDepartment().equals(user.getDepartment()))
-                .sorted(Comparator.comparing(PerformanceScoreDTO::getOverallScore).reversed())
-                .collect(Collectors.toList());
+        // Ranks depend on every user's score, so per-user entries still live in the GLOBAL scope
+        return analyticsCache.get(CacheScope.global(), "performanceScore",
+                () -> calculatePerformanceScore(userId, rankings()), userId);
+    }
 
-        int departmentRank = 1;
-        for (int i = 0; i < departmentScores.size(); i++) {
-            if (departmentScores.get(i).getUserId().equals(userId)) {
-                departmentRank = i + 1;
-                break;
-            }
-        }
+    private PerformanceScoreDTO calculatePerformanceScore(Long userId, RankingTable rankings) {
+        UserRanking ranking = rankings.find(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-        int previousRank = rank;
-        int previousDepartmentRank = departmentRank;
-        double improvementPercentage = 0.0;
+        int previousRank = ranking.getPreviousRank();
+        int previousDepartmentRank = ranking.getPreviousDepartmentRank();
+        double improvementPercentage = ranking.getImprovementPercentage();
 
         return new PerformanceScoreDTO(
-                userId, user.getName(), user.getDepartment(),
-                overallScore, completionRate, speedScore, qualityScore, consistencyScore,
-                rank, departmentRank, previousRank, previousDepartmentRank,
-                performanceTier, improvementPercentage
+                userId, ranking.getUserName(), ranking.getDepartment(),
+                ranking.getOverallScore(), ranking.getCompletionRate(), ranking.getSpeedScore(),
+                ranking.getQualityScore(), ranking.getConsistencyScore(),
+                ranking.getRank(), ranking.getDepartmentRank(), previousRank, previousDepartmentRank,
+                ranking.getPerformanceTier(), improvementPercentage
         );
     }
 
@@ -333,13 +285,21 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Get gamified velocity metrics with badges and rankings
      */
     public GamifiedVelocityDTO getGamifiedVelocity(Long userId, String departmentFilter) {
+        return analyticsCache.get(CacheScope.global(), "gamifiedVelocity",
+                () -> getGamifiedVelocity(userId, rankings()), userId);
+    }
+
+    private GamifiedVelocityDTO getGamifiedVelocity(Long userId, RankingTable rankings) {
         VelocityMetricsDTO baseMetrics = getUserVelocity(userId);
-        PerformanceScoreDTO performance = calculatePerformanceScore(userId, departmentFilter);
-        List<BadgeDTO> badges = calculateBadges(userId);
+        PerformanceScoreDTO performance = calculatePerformanceScore(userId, rankings);
+        List<BadgeDTO> badges = calculateBadges(userId, rankings);
 
-        // Calculate streaks (simplified)
-        int streakDays = 0;
-        int streakWeeks = 0;
+        // Streaks: consecutive days / weeks with at least one completion
+        LocalDate today = LocalDate.now();
+        int streakDays = CompletionTrends.streak(initiativeStatsService.getCompletions(userId, RollupPeriod.DAY,
+                today.minusDays(STREAK_LOOKBACK_DAYS)), RollupPeriod.DAY, today);
+        int streakWeeks = CompletionTrends.streak(initiativeStatsService.getCompletions(userId, RollupPeriod.WEEK,
+                RollupPeriod.WEEK.start(today).minusWeeks(STREAK_LOOKBACK_WEEKS)), RollupPeriod.WEEK, today);
 
         return new GamifiedVelocityDTO(
                 userId, baseMetrics.getUserName(), baseMetrics.getDepartment(),
@@ -356,124 +316,66 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      * Calculate badges for a user (department-aware)
      */
     public List<BadgeDTO> calculateBadges(Long userId) {
-        List<BadgeDTO> badges = new ArrayList<>();
-        VelocityMetricsDTO metrics = getUserVelocity(userId);
-        PerformanceScoreDTO performance = calculatePerformanceScore(userId, null);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Get department-specific metrics for comparison
-        List<VelocityMetricsDTO> departmentMetrics = getAllUsersVelocity().stream()
-                .filter(m -> user.getDepartment() != null && 
-                            m.getDepartment() != null && 
-                            m.getDepartment().equals(user.getDepartment()))
-                .collect(Collectors.toList());
-
-        // Speed Demon: Complete tasks 25% faster than department average
-        if (!departmentMetrics.isEmpty()) {
-            double deptAvgTasksPerWeek = departmentMetrics.stream()
-                    .mapToDouble(VelocityMetricsDTO::getAverageTasksPerWeek)
-                    .average()
-                    .orElse(0.0);
-            if (deptAvgTasksPerWeek > 0 && metrics.getAverageTasksPerWeek() >= deptAvgTasksPerWeek * 1.25) {
-                badges.add(new BadgeDTO("speed_demon", "Speed Demon",
-                        "Complete tasks 25% faster than department average", "SPEED",
-                        "⚡", LocalDateTime.now(), true,
-                        "Average tasks per week: " + String.format("%.1f", metrics.getAverageTasksPerWeek())));
-            }
-        }
-
-        // Quality Champion: Maintain 95%+ completion rate
-        if (metrics.getCompletionRate() >= 95.0) {
-            badges.add(new BadgeDTO("quality_champion", "Quality Champion",
-                    "Maintain 95%+ completion rate", "QUALITY",
-                    "🏆", LocalDateTime.now(), true,
-                    "Completion rate: " + String.format("%.1f%%", metrics.getCompletionRate())));
-        }
-
-        // Consistency King: Steady performance
-        if (performance.getConsistencyScore() >= 85.0) {
-            badges.add(new BadgeDTO("consistency_king", "Consistency King",
-                    "Steady performance with high consistency", "CONSISTENCY",
-                    "👑", LocalDateTime.now(), true,
-                    "Consistency score: " + String.format("%.1f", performance.getConsistencyScore())));
-        }
-
-        // Perfect Week: 100% completion for a week (simplified check)
-        if (metrics.getCompletionRate() == 100.0 && metrics.getTasksCompleted() > 0) {
-            badges.add(new BadgeDTO("perfect_week", "Perfect Week",
-                    "100% completion rate", "QUALITY",
-                    "⭐", LocalDateTime.now(), true,
-                    "Perfect completion rate achieved"));
-        }
-
-        // Rising Star: Top 20% in department
-        if (!departmentMetrics.isEmpty() && performance.getDepartmentRank() > 0) {
-            int deptSize = departmentMetrics.size();
-            int topPercent = (int) Math.ceil(deptSize * 0.2);
-            if (performance.getDepartmentRank() <= topPercent) {
-                badges.add(new BadgeDTO("rising_star", "Rising Star",
-                        "Top performer in your department", "IMPROVEMENT",
-                        "🌟", LocalDateTime.now(), true,
-                        "Rank #" + performance.getDepartmentRank() + " in " + user.getDepartment()));
-            }
-        }
+        return calculateBadges(userId, rankings());
+    }
 
-        // Team Player: High collaboration (simplified - based on tasks assigned)
-        if (metrics.getTasksAssigned() >= 10) {
-            badges.add(new BadgeDTO("team_player", "Team Player",
-                    "Actively engaged with multiple tasks", "TEAMWORK",
-                    "🤝", LocalDateTime.now(), true,
-                    "Assigned to " + metrics.getTasksAssigned() + " tasks"));
+    private List<BadgeDTO> calculateBadges(Long userId, RankingTable rankings) {
+        if (rankings.find(userId).isEmpty()) {
+            throw new RuntimeException("User not found");
         }
+        return badgeAwards(rankings).getOrDefault(userId, Collections.emptyList());
+    }
 
-        return badges;
+    // Every user's badges from one engine pass, shared until the next write
+    private Map<Long, List<BadgeDTO>> badgeAwards(RankingTable rankings) {
+        return analyticsCache.get(CacheScope.global(), "badgeAwards", () -> badgeEngine.evaluate(rankings));
     }
 
     /**
      * Get leaderboard entries
      */
     public List<LeaderboardEntryDTO> getLeaderboard(String metricType, String departmentFilter, int limit) {
-        List<User> users = userRepository.findAll();
-        if (departmentFilter != null && !departmentFilter.isEmpty()) {
-            users = users.stream()
-                    .filter(u -> departmentFilter.equals(u.getDepartment()))
-                    .collect(Collectors.toList());
-        }
-
-        List<LeaderboardEntryDTO> entries = new ArrayList<>();
-        int rank = 1;
+        CacheScope scope = (departmentFilter != null && !departmentFilter.isEmpty())
+                ? CacheScope.department(departmentFilter)
+                : CacheScope.global();
+        return analyticsCache.get(scope, "leaderboard",
+                () -> computeLeaderboard(metricType, departmentFilter, limit), metricType, departmentFilter, limit);
+    }
 
-        for (User user : users) {
-            VelocityMetricsDTO metrics = getUserVelocity(user.getUserId());
-            PerformanceScoreDTO performance = calculatePerformanceScore(user.getUserId(), departmentFilter);
+    private List<LeaderboardEntryDTO> computeLeaderboard(String metricType, String departmentFilter, int limit) {
+        RankingTable rankings = rankings();
+        List<UserRanking> rows = (departmentFilter != null && !departmentFilter.isEmpty())
+                ? rankings.getDepartment(departmentFilter)
+                : rankings.getRanked();
+
+        // Rows are already in overall order; other metrics need one re-sort of the slice
+        Comparator<UserRanking> byMetric = switch (metricType) {
+            case "SPEED" -> Comparator.comparingDouble(UserRanking::getAverageTasksPerWeek);
+            case "QUALITY" -> Comparator.comparingDouble(UserRanking::getCompletionRate);
+            case "IMPROVEMENT" -> Comparator.comparingDouble(UserRanking::getImprovementPercentage);
+            default -> null;
+        };
+        if (byMetric != null) {
+            rows = new ArrayList<>(rows);
+            rows.sort(byMetric.reversed().thenComparing(UserRanking::getUserId));
+        }
 
+        int size = (limit > 0 && limit < rows.size()) ? limit : rows.size();
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserRanking row = rows.get(i);
             double score = switch (metricType) {
-                case "SPEED" -> metrics.getAverageTasksPerWeek();
-                case "QUALITY" -> metrics.getCompletionRate();
-                case "IMPROVEMENT" -> performance.getImprovementPercentage();
-                default -> performance.getOverallScore();
+                case "SPEED" -> row.getAverageTasksPerWeek();
+                case "QUALITY" -> row.getCompletionRate();
+                case "IMPROVEMENT" -> row.getImprovementPercentage();
+                default -> row.getOverallScore();
             };
-
             entries.add(new LeaderboardEntryDTO(
-                    user.getUserId(), user.getName(), user.getDepartment(),
-                    rank++, score, metricType, score, 0, null
+                    row.getUserId(), row.getUserName(), row.getDepartment(),
+                    i + 1, score, metricType, score, row.getRankChange(), null
             ));
         }
 
-        // Sort by score descending
-        entries.sort(Comparator.comparing(LeaderboardEntryDTO::getScore).reversed());
-
-        // Update ranks after sorting
-        for (int i = 0; i < entries.size(); i++) {
-            entries.get(i).setRank(i + 1);
-        }
-
-        // Limit results
-        if (limit > 0 && limit < entries.size()) {
-            entries = entries.subList(0, limit);
-        }
-
         return entries;
     }
 
@@ -484,6 +386,17 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                                                              Double minCompletionRate, Double maxCompletionRate,
                                                              Integer minTasks, Integer maxTasks,
                                                              String performanceTier, String sortBy, String sortOrder) {
+        return analyticsCache.get(CacheScope.global(), "allGamifiedVelocity",
+                () -> computeAllGamifiedVelocity(departmentFilter, searchQuery, minCompletionRate, maxCompletionRate,
+                        minTasks, maxTasks, performanceTier, sortBy, sortOrder),
+                departmentFilter, searchQuery, minCompletionRate, maxCompletionRate,
+                minTasks, maxTasks, performanceTier, sortBy, sortOrder);
+    }
+
+    private List<GamifiedVelocityDTO> computeAllGamifiedVelocity(String departmentFilter, String searchQuery,
+                                                                 Double minCompletionRate, Double maxCompletionRate,
+                                                                 Integer minTasks, Integer maxTasks,
+                                                                 String performanceTier, String sortBy, String sortOrder) {
         List<User> users = userRepository.findAll();
 
         // Apply department filter
@@ -502,9 +415,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                     .collect(Collectors.toList());
         }
 
-        // Get gamified metrics for all users
+        // Get gamified metrics for all users (scored once, not once per user)
+        RankingTable rankings = rankings();
         List<GamifiedVelocityDTO> results = users.stream()
-                .map(u -> getGamifiedVelocity(u.getUserId(), departmentFilter))
+                .map(u -> getGamifiedVelocity(u.getUserId(), rankings))
                 .collect(Collectors.toList());
 
         // Apply filters
@@ -579,10 +493,99 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return results;
     }
 
+    /**
+     * Paginated gamified velocity: filters and sorts the precomputed ranking rows and
+     * builds full DTOs (velocity, streaks, badges) only for the rows on the requested page
+     */
+    public Page<GamifiedVelocityDTO> getGamifiedVelocityPage(String departmentFilter, String searchQuery,
+                                                             Double minCompletionRate, Double maxCompletionRate,
+                                                             Integer minTasks, Integer maxTasks,
+                                                             String performanceTier, String sortBy, String sortOrder,
+                                                             Pageable pageable) {
+        return analyticsCache.get(CacheScope.global(), "gamifiedVelocityPage",
+                () -> computeGamifiedVelocityPage(departmentFilter, searchQuery, minCompletionRate, maxCompletionRate,
+                        minTasks, maxTasks, performanceTier, sortBy, sortOrder, pageable),
+                departmentFilter, searchQuery, minCompletionRate, maxCompletionRate,
+                minTasks, maxTasks, performanceTier, sortBy, sortOrder, pageable);
+    }
+
+    private Page<GamifiedVelocityDTO> computeGamifiedVelocityPage(String departmentFilter, String searchQuery,
+                                                                  Double minCompletionRate, Double maxCompletionRate,
+                                                                  Integer minTasks, Integer maxTasks,
+                                                                  String performanceTier, String sortBy, String sortOrder,
+                                                                  Pageable pageable) {
+        RankingTable rankings = rankings();
+        List<UserRanking> rows = (departmentFilter != null && !departmentFilter.isEmpty())
+                ? rankings.getDepartment(departmentFilter)
+                : rankings.getRanked();
+
+        // 1. Filter the metric rows (rows stay in overall score order)
+        String query = searchQuery != null && !searchQuery.isEmpty() ? searchQuery.toLowerCase() : null;
+        List<UserRanking> matches = new ArrayList<>();
+        for (UserRanking row : rows) {
+            if (query != null && !(row.getUserName() != null && row.getUserName().toLowerCase().contains(query)) &&
+                    !(row.getDepartment() != null && row.getDepartment().toLowerCase().contains(query))) {
+                continue;
+            }
+            if ((minCompletionRate != null && row.getCompletionRate() < minCompletionRate) ||
+                    (maxCompletionRate != null && row.getCompletionRate() > maxCompletionRate) ||
+                    (minTasks != null && row.getTasksAssigned() < minTasks) ||
+                    (maxTasks != null && row.getTasksAssigned() > maxTasks) ||
+                    (performanceTier != null && !performanceTier.isEmpty() && !performanceTier.equals(row.getPerformanceTier()))) {
+                continue;
+            }
+            matches.add(row);
+        }
+
+        // 2. Department ranks within the filtered set, in one walk of the score order
+        Map<Long, Integer> departmentRanks = new HashMap<>();
+        Map<String, Integer> departmentPositions = new HashMap<>();
+        for (UserRanking row : matches) {
+            if (row.getDepartment() != null && !row.getDepartment().isEmpty()) {
+                departmentRanks.put(row.getUserId(), departmentPositions.merge(row.getDepartment(), 1, Integer::sum));
+            }
+        }
+
+        // 3. Sort (ties by user ID so pages do not overlap)
+        Comparator<UserRanking> comparator = switch (sortBy != null ? sortBy.toLowerCase() : "") {
+            case "name" -> Comparator.comparing(UserRanking::getUserName, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "department" -> Comparator.comparing(UserRanking::getDepartment, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "completionrate" -> Comparator.comparingDouble(UserRanking::getCompletionRate);
+            case "tasksassigned" -> Comparator.comparingInt(UserRanking::getTasksAssigned);
+            case "taskscompleted" -> Comparator.comparingInt(UserRanking::getTasksCompleted);
+            case "rank" -> Comparator.comparingInt(UserRanking::getRank);
+            default -> Comparator.comparingDouble(UserRanking::getOverallScore);
+        };
+        boolean descending = sortBy == null || sortBy.isEmpty()
+                || "desc".equalsIgnoreCase(sortOrder) || "descending".equalsIgnoreCase(sortOrder);
+        if (descending) {
+            comparator = comparator.reversed();
+        }
+        matches.sort(comparator.thenComparing(UserRanking::getUserId));
+
+        // 4. Materialize DTOs (and badges) for the page only
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<GamifiedVelocityDTO> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            UserRanking row = matches.get(i);
+            GamifiedVelocityDTO dto = getGamifiedVelocity(row.getUserId(), rankings);
+            dto.setRank(i + 1);
+            dto.setDepartmentRank(departmentRanks.getOrDefault(row.getUserId(), 0));
+            content.add(dto);
+        }
+
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
     /**
      * Get all available departments
      */
     public List<String> getAllDepartments() {
+        return analyticsCache.get(CacheScope.global(), "departments", this::computeAllDepartments);
+    }
+
+    private List<String> computeAllDepartments() {
         return userRepository.findAll().stream()
                 .map(User::getDepartment)
                 .filter(d -> d != null && !d.isEmpty())
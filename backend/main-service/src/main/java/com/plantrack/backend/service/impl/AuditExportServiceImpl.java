@@ -0,0 +1,184 @@
+package com.plantrack.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plantrack.backend.audit.AuditArchive;
+import com.plantrack.backend.audit.AuditLogFilter;
+import com.plantrack.backend.audit.AuditLogRowMapper;
+import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.service.AuditExportService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class AuditExportServiceImpl implements AuditExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditExportService.class);
+
+    private static final String FORMAT_NDJSON = "ndjson";
+    private static final String FORMAT_CSV = "csv";
+    private static final String CSV_HEADER = "id,timestamp,action,performedBy,entityType,entityId,details,oldValue,newValue";
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int fetchSize;
+    private final int maxConnections;
+    private final long timeoutMillis;
+
+    // Exports' own small pool: only its connections read through a server-side cursor (useCursorFetch)
+    private HikariDataSource exportDataSource;
+    private NamedParameterJdbcTemplate streamingTemplate;
+
+    public AuditExportServiceImpl(@Value("${plantrack.audit.export.fetch-size:1000}") int fetchSize,
+                                  @Value("${plantrack.audit.export.max-connections:2}") int maxConnections,
+                                  @Value("${plantrack.audit.export.timeout-ms:1800000}") long timeoutMillis) {
+        this.fetchSize = fetchSize;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        // Same database and credentials as the main pool; connections open on first export
+        exportDataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        exportDataSource.setPoolName("audit-export");
+        exportDataSource.setMaximumPoolSize(maxConnections);
+        exportDataSource.setMinimumIdle(0);
+        exportDataSource.addDataSourceProperty("useCursorFetch", "true");
+
+        JdbcTemplate template = new JdbcTemplate(exportDataSource);
+        template.setFetchSize(fetchSize);
+        streamingTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    @PreDestroy
+    public void close() {
+        exportDataSource.close();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public String normalizeFormat(String format) {
+        String normalized = format == null ? FORMAT_NDJSON : format.toLowerCase(Locale.ROOT);
+        if (!FORMAT_NDJSON.equals(normalized) && !FORMAT_CSV.equals(normalized)) {
+            throw new RuntimeException("Invalid export format: " + format + ". Use ndjson or csv");
+        }
+        return normalized;
+    }
+
+    public void export(AuditLogFilter filter, String format, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        boolean csv = FORMAT_CSV.equals(normalizeFormat(format));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        AtomicLong rows = new AtomicLong();
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // 1. Archived months first (oldest first), one line at a time
+        if (filter.isIncludeArchived()) {
+            List<YearMonth> months = auditArchive.months();
+            for (int i = months.size() - 1; i >= 0; i--) {
+                YearMonth month = months.get(i);
+                if ((filter.getFrom() != null && month.isBefore(YearMonth.from(filter.getFrom())))
+                        || (filter.getTo() != null && month.isAfter(YearMonth.from(filter.getTo())))) {
+                    continue;
+                }
+                auditArchive.forEach(month, filter, entry -> writeQuietly(writer, entry, csv, rows));
+            }
+        }
+
+        // 2. Then the hot table through a forward-only cursor; rows go out as they arrive
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = filter.toSelectSql(params, null, false, null);
+        try {
+            streamingTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+                writeQuietly(writer, AuditLogRowMapper.INSTANCE.mapRow(rs, 0), csv, rows);
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.info("Audit export finished: format={}, rows={}, duration={}ms",
+                csv ? FORMAT_CSV : FORMAT_NDJSON, rows.get(), System.currentTimeMillis() - startTime);
+    }
+
+    private void writeQuietly(Writer writer, AuditLog entry, boolean csv, AtomicLong rows) {
+        try {
+            if (csv) {
+                writeCsv(writer, entry);
+            } else {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.write('\n');
+            }
+            rows.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Writer writer, AuditLog entry) throws IOException {
+        writer.write(String.valueOf(entry.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(entry.getTimestamp()));
+        writer.write(',');
+        writer.write(csvField(entry.getAction()));
+        writer.write(',');
+        writer.write(csvField(entry.getPerformedBy()));
+        writer.write(',');
+        writer.write(csvField(entry.getEntityType()));
+        writer.write(',');
+        writer.write(entry.getEntityId() != null ? entry.getEntityId().toString() : "");
+        writer.write(',');
+        writer.write(csvField(entry.getDetails()));
+        writer.write(',');
+        writer.write(csvField(entry.getOldValue()));
+        writer.write(',');
+        writer.write(csvField(entry.getNewValue()));
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields holding a separator, quote or line break, doubling inner quotes
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
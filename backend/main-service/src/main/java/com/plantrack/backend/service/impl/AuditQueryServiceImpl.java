@@ -0,0 +1,155 @@
+package com.plantrack.backend.service.impl;
+
+import com.plantrack.backend.audit.AuditArchive;
+import com.plantrack.backend.audit.AuditFullTextIndex;
+import com.plantrack.backend.audit.AuditLogFilter;
+import com.plantrack.backend.audit.AuditLogRowMapper;
+import com.plantrack.backend.dto.AuditLogPageDTO;
+import com.plantrack.backend.dto.AuditSearchHitDTO;
+import com.plantrack.backend.dto.AuditSearchPageDTO;
+import com.plantrack.backend.model.AuditLog;
+import com.plantrack.backend.model.AuditLogItem;
+import com.plantrack.backend.repository.AuditLogItemRepository;
+import com.plantrack.backend.service.AuditQueryService;
+import com.plantrack.backend.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AuditQueryServiceImpl implements AuditQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditQueryService.class);
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // Relevance pages use OFFSET, so how deep they go is capped
+    private static final int MAX_SEARCH_DEPTH = 10_000;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private AuditLogItemRepository auditLogItemRepository;
+
+    @Autowired
+    private AuditFullTextIndex auditFullTextIndex;
+
+    public AuditLogPageDTO query(AuditLogFilter filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 1. Filters (plus the entity's cascade items), resuming strictly after the cursor in (timestamp DESC, id DESC) order
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String keyset = null;
+        KeysetCursor position = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+        if (position != null) {
+            keyset = "(a.timestamp < :cursorTimestamp OR (a.timestamp = :cursorTimestamp AND a.id < :cursorId))";
+            params.addValue("cursorTimestamp", position.getTimestamp());
+            params.addValue("cursorId", position.getId());
+        }
+
+        // 2. One extra row tells whether another page follows
+        String sql = filter.toSelectSql(params, keyset, true, pageSize + 1);
+        List<AuditLog> rows = jdbcTemplate.query(sql, params, AuditLogRowMapper.INSTANCE);
+
+        // 3. Archived months are all older than the hot table, so they simply continue the page
+        if (filter.isIncludeArchived() && rows.size() <= pageSize) {
+            rows = new ArrayList<>(rows);
+            readArchive(filter, position, rows, pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLog> page = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).encode();
+        }
+        logger.debug("Audit query: entries={}, hasMore={}", page.size(), hasMore);
+        return new AuditLogPageDTO(page, nextCursor, hasMore);
+    }
+
+    public List<AuditLog> findByEntity(String entityType, Long entityId) {
+        AuditLogFilter filter = new AuditLogFilter(entityType, entityId, null, null, null, null);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return jdbcTemplate.query(filter.toSelectSql(params, null, true, null), params, AuditLogRowMapper.INSTANCE);
+    }
+
+    public AuditSearchPageDTO search(String text, boolean booleanMode, AuditLogFilter filter, int page, int size) {
+        if (text == null || text.isBlank()) {
+            throw new RuntimeException("Search text is required");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) pageNumber * pageSize >= MAX_SEARCH_DEPTH) {
+            throw new RuntimeException("Search results are limited to the first " + MAX_SEARCH_DEPTH + " matches; narrow the search");
+        }
+        if (!auditFullTextIndex.isPresent()) {
+            throw new RuntimeException("Audit search is not available yet: the full-text index has not been created");
+        }
+
+        // 1. Relevance from the FULLTEXT index, narrowed by the ordinary filters
+        MapSqlParameterSource params = new MapSqlParameterSource("text", text.trim());
+        String match = "MATCH(" + prefixed("a", AuditFullTextIndex.COLUMNS) + ") AGAINST (:text" +
+                (booleanMode ? " IN BOOLEAN MODE" : " IN NATURAL LANGUAGE MODE") + ")";
+        String sql = "SELECT " + AuditLogRowMapper.COLUMNS + ", " + match + " AS score FROM audit_logs a WHERE " +
+                match + " AND " + filter.toSql("a", params) +
+                " ORDER BY score DESC, a.id DESC LIMIT :limit OFFSET :offset";
+        params.addValue("limit", pageSize + 1);
+        params.addValue("offset", pageNumber * pageSize);
+
+        // 2. One extra hit tells whether another page follows
+        List<AuditSearchHitDTO> hits = jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                new AuditSearchHitDTO(AuditLogRowMapper.INSTANCE.mapRow(rs, rowNum), rs.getDouble("score")));
+        boolean hasMore = hits.size() > pageSize;
+        if (hasMore) {
+            hits = new ArrayList<>(hits.subList(0, pageSize));
+        }
+        logger.debug("Audit search: hits={}, page={}, hasMore={}", hits.size(), pageNumber, hasMore);
+        return new AuditSearchPageDTO(hits, pageNumber, pageSize, hasMore);
+    }
+
+    private String prefixed(String alias, String columns) {
+        return alias + "." + columns.replace(", ", ", " + alias + ".");
+    }
+
+    public List<AuditLogItem> getItems(Long auditLogId, YearMonth archivedMonth) {
+        if (archivedMonth != null) {
+            return auditArchive.readItems(archivedMonth, auditLogId);
+        }
+        return auditLogItemRepository.findByAuditLogIdOrderByEntityTypeAscEntityIdAsc(auditLogId);
+    }
+
+    private void readArchive(AuditLogFilter filter, KeysetCursor position, List<AuditLog> rows, int wanted) {
+        YearMonth newest = newestMonth(filter, position);
+        YearMonth oldest = filter.getFrom() != null ? YearMonth.from(filter.getFrom()) : null;
+        for (YearMonth month : auditArchive.months()) {
+            if ((newest != null && month.isAfter(newest)) || (oldest != null && month.isBefore(oldest))) {
+                continue;
+            }
+            rows.addAll(auditArchive.readPage(month, filter, position, wanted - rows.size()));
+            if (rows.size() >= wanted) {
+                return;
+            }
+        }
+    }
+
+    // Months past the cursor or the end of the range cannot hold matches
+    private YearMonth newestMonth(AuditLogFilter filter, KeysetCursor position) {
+        YearMonth newest = filter.getTo() != null ? YearMonth.from(filter.getTo()) : null;
+        if (position != null) {
+            YearMonth cursorMonth = YearMonth.from(position.getTimestamp());
+            newest = newest == null || cursorMonth.isBefore(newest) ? cursorMonth : newest;
+        }
+        return newest;
+    }
+}
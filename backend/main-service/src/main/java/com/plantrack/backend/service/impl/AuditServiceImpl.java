@@ -1,7 +1,8 @@
 package com.plantrack.backend.service.impl;
 
+import com.plantrack.backend.audit.AuditWriter;
 import com.plantrack.backend.model.AuditLog;
-import com.plantrack.backend.repository.AuditLogRepository;
+import com.plantrack.backend.model.AuditLogItem;
 import com.plantrack.backend.service.AuditService;
 
 import org.slf4j.Logger;
@@ -11,13 +12,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class AuditServiceImpl implements AuditService{
 
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private AuditWriter auditWriter;
 
     /**
      * Log a CREATE operation
@@ -27,9 +30,9 @@ public class AuditServiceImpl implements AuditService{
         logger.debug("Creating audit log: action=CREATE, entityType={}, entityId={}, performedBy={}", 
                 entityType, entityId, performedBy);
         AuditLog log = new AuditLog("CREATE", performedBy, entityType, entityId, details);
-        auditLogRepository.save(log);
-        logger.trace("Audit log created: auditLogId={}, entityType={}, entityId={}", 
-                log.getId(), entityType, entityId);
+        auditWriter.write(log);
+        logger.trace("Audit log submitted: action={}, entityType={}, entityId={}", 
+                log.getAction(), entityType, entityId);
     }
 
     /**
@@ -40,9 +43,9 @@ public class AuditServiceImpl implements AuditService{
         logger.debug("Creating audit log: action=UPDATE, entityType={}, entityId={}, performedBy={}", 
                 entityType, entityId, performedBy);
         AuditLog log = new AuditLog("UPDATE", performedBy, entityType, entityId, details);
-        auditLogRepository.save(log);
-        logger.trace("Audit log created: auditLogId={}, entityType={}, entityId={}", 
-                log.getId(), entityType, entityId);
+        auditWriter.write(log);
+        logger.trace("Audit log submitted: action={}, entityType={}, entityId={}", 
+                log.getAction(), entityType, entityId);
     }
 
     /**
@@ -53,9 +56,9 @@ public class AuditServiceImpl implements AuditService{
         logger.info("Creating audit log: action=DELETE, entityType={}, entityId={}, performedBy={}", 
                 entityType, entityId, performedBy);
         AuditLog log = new AuditLog("DELETE", performedBy, entityType, entityId, details);
-        auditLogRepository.save(log);
-        logger.trace("Audit log created: auditLogId={}, entityType={}, entityId={}", 
-                log.getId(), entityType, entityId);
+        auditWriter.write(log);
+        logger.trace("Audit log submitted: action={}, entityType={}, entityId={}", 
+                log.getAction(), entityType, entityId);
     }
 
     /**
@@ -68,8 +71,24 @@ public class AuditServiceImpl implements AuditService{
         AuditLog log = new AuditLog("UPDATE_STATUS", performedBy, entityType, entityId, details);
         log.setOldValue(oldStatus);
         log.setNewValue(newStatus);
-        auditLogRepository.save(log);
-        logger.trace("Audit log created: auditLogId={}, entityType={}, entityId={}", 
+        auditWriter.write(log);
+        logger.trace("Audit log submitted: action={}, entityType={}, entityId={}", 
+                log.getAction(), entityType, entityId);
+    }
+
+    /**
+     * Log a status change that cascaded to child entities: one entry for the parent, one compact item per child
+     */
+    public void logCascadeStatusChange(String entityType, Long entityId, String oldStatus, String newStatus, String details,
+                                       List<AuditLogItem> items) {
+        String performedBy = getCurrentUser();
+        logger.info("Creating cascade audit log: action=UPDATE_STATUS, entityType={}, entityId={}, status={}->{}, items={}, performedBy={}",
+                entityType, entityId, oldStatus, newStatus, items.size(), performedBy);
+        AuditLog log = new AuditLog("UPDATE_STATUS", performedBy, entityType, entityId, details);
+        log.setOldValue(oldStatus);
+        log.setNewValue(newStatus);
+        auditWriter.writeWithItems(log, items);
+        logger.trace("Cascade audit log written: id={}, entityType={}, entityId={}",
                 log.getId(), entityType, entityId);
     }
 
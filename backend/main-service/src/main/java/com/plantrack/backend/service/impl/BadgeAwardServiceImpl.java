@@ -0,0 +1,40 @@
+package com.plantrack.backend.service.impl;
+
+import com.plantrack.backend.analytics.BadgeEngine;
+import com.plantrack.backend.analytics.PerformanceRankingEngine;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
+import com.plantrack.backend.service.BadgeAwardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Set;
+
+@Service
+public class BadgeAwardServiceImpl implements BadgeAwardService {
+
+    @Autowired
+    private PerformanceRankingEngine rankingEngine;
+
+    @Autowired
+    private BadgeEngine badgeEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    @Scheduled(cron = "${plantrack.analytics.badges.award-cron:0 15 * * * *}")
+    public int recordAwards() {
+        // 1. Fresh ranking pass (not the cached table, which may be minutes old)
+        Set<Long> userIds = badgeEngine.recordAwards(rankingEngine.computeRankings());
+
+        // 2. Cached badges of those users show provisional dates; drop them
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(new AnalyticsDataChangedEvent("BADGE", null, userIds, Collections.emptySet()));
+        }
+        return userIds.size();
+    }
+}
@@ -1,24 +1,35 @@
 package com.plantrack.backend.service.impl;
 
+import com.plantrack.backend.dto.CommentPageDTO;
+import com.plantrack.backend.dto.CommentThreadItemDTO;
 import com.plantrack.backend.dto.CreateNotificationRequest;
-import com.plantrack.backend.feign.NotificationService;
+import com.plantrack.backend.mention.UserMentionIndex;
 import com.plantrack.backend.model.Comment;
 import com.plantrack.backend.model.Initiative;
 import com.plantrack.backend.model.User;
+import com.plantrack.backend.notification.NotificationDispatcher;
 import com.plantrack.backend.repository.CommentRepository;
 import com.plantrack.backend.repository.InitiativeRepository;
 import com.plantrack.backend.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import com.plantrack.backend.service.AuditService;
 import com.plantrack.backend.service.CommentService;
+import com.plantrack.backend.util.KeysetCursor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,6 +41,10 @@ public class CommentServiceImpl implements CommentService{
     private static final Logger logger = LoggerFactory.getLogger(CommentService.class);
     // Pattern to match @mentions: @username or @email (extracts username from email)
     private static final Pattern MENTION_PATTERN = Pattern.compile("@(\\w+)(?:@[\\w.-]+\\.[\\w]+)?", Pattern.CASE_INSENSITIVE);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_COUNT_IDS = 1000;
+    // Cursor start for the first page: after any comment that can exist
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
     @Autowired
     private CommentRepository commentRepository;
     @Autowired
@@ -39,7 +54,9 @@ public class CommentServiceImpl implements CommentService{
     @Autowired
     private AuditService auditService;
     @Autowired
-    private NotificationService notificationService;
+    private NotificationDispatcher notificationDispatcher;
+    @Autowired
+    private UserMentionIndex userMentionIndex;
 
     /**
      * Create a new comment with mention processing
@@ -76,11 +93,13 @@ public class CommentServiceImpl implements CommentService{
         auditService.logCreate("COMMENT", savedComment.getCommentId(),
                 "Created comment on initiative: " + initiative.getTitle());
 
-        // Notify mentioned users
-        notifyMentionedUsers(mentionedUsers, currentUser, initiative, savedComment);
-
-        // Notify other stakeholders (assigned users and managers) about new comment
-        notifyStakeholders(initiative, currentUser, savedComment);
+        // Notify mentioned users and other stakeholders (assigned users and managers) about new comment,
+        // sent in the background once the comment is committed
+        List<CreateNotificationRequest> notifications = mentionNotifications(mentionedUsers, currentUser, initiative);
+        notifications.addAll(stakeholderNotifications(initiative, currentUser, savedComment));
+        notificationDispatcher.dispatch(notifications);
+        logger.debug("Comment created: commentId={}, initiativeId={}, notifications={}",
+                savedComment.getCommentId(), initiativeId, notifications.size());
 
         return savedComment;
     }
@@ -96,6 +115,69 @@ public class CommentServiceImpl implements CommentService{
         return commentRepository.findByInitiativeIdOrderByCreatedAtDesc(initiativeId);
     }
 
+    /**
+     * One page of an initiative's comments, newest first, as flat projections
+     */
+    public CommentPageDTO getCommentPage(Long initiativeId, String cursor, int limit) {
+        if (!initiativeRepository.existsById(initiativeId)) {
+            throw new RuntimeException("Initiative not found");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 1. Resume after the cursor position, or start at the newest comment
+        LocalDateTime cursorDate = LATEST;
+        Long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            cursorDate = position.getTimestamp();
+            cursorId = position.getId();
+        }
+
+        // 2. One extra row tells whether another page follows
+        List<CommentThreadItemDTO> rows = commentRepository.findThreadPage(initiativeId, cursorDate, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<CommentThreadItemDTO> page = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        // 3. Mention ids for the whole page in one query
+        if (!page.isEmpty()) {
+            Map<Long, CommentThreadItemDTO> byId = new HashMap<>();
+            for (CommentThreadItemDTO item : page) {
+                byId.put(item.getCommentId(), item);
+            }
+            for (CommentRepository.MentionPair pair : commentRepository.findMentionPairs(byId.keySet())) {
+                byId.get(pair.getCommentId()).getMentionedUserIds().add(pair.getUserId());
+            }
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            CommentThreadItemDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getCommentId()).encode();
+        }
+        return new CommentPageDTO(page, nextCursor, hasMore);
+    }
+
+    /**
+     * Non-deleted comment counts for a set of initiatives (0 for those without comments), from one grouped query
+     */
+    public Map<Long, Long> getCommentCounts(Collection<Long> initiativeIds) {
+        if (initiativeIds.size() > MAX_COUNT_IDS) {
+            throw new RuntimeException("Too many initiative ids: at most " + MAX_COUNT_IDS + " per request");
+        }
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Long initiativeId : initiativeIds) {
+            counts.put(initiativeId, 0L);
+        }
+        if (counts.isEmpty()) {
+            return counts;
+        }
+        for (CommentRepository.InitiativeCommentCount row : commentRepository.countByInitiativeIds(counts.keySet())) {
+            counts.put(row.getInitiativeId(), row.getCommentCount());
+        }
+        return counts;
+    }
+
     /**
      * Update a comment
      */
@@ -137,7 +219,7 @@ public class CommentServiceImpl implements CommentService{
                 .filter(user -> !oldMentionedIds.contains(user.getUserId()))
                 .collect(Collectors.toSet());
 
-        notifyMentionedUsers(newlyMentioned, currentUser, comment.getInitiative(), savedComment);
+        notificationDispatcher.dispatch(mentionNotifications(newlyMentioned, currentUser, comment.getInitiative()));
 
         return savedComment;
     }
@@ -211,65 +293,38 @@ public class CommentServiceImpl implements CommentService{
             mentionedUsernames.add(mention.toLowerCase());
         }
 
-        // Find users by username (from email) or name
+        // Resolve each mention from the in-memory index: exact email username first, then name
+        Set<Long> matchedIds = new HashSet<>();
         for (String username : mentionedUsernames) {
-            // Try to find user by email username (part before @)
-            List<User> users = userRepository.findAll().stream()
-                    .filter(user -> {
-                        if (user.getEmail() != null) {
-                            String emailUsername = user.getEmail().split("@")[0].toLowerCase();
-                            if (emailUsername.equals(username)) {
-                                return true;
-                            }
-                        }
-                        // Also check name (case-insensitive partial match)
-                        if (user.getName() != null) {
-                            String nameLower = user.getName().toLowerCase();
-                            return nameLower.contains(username) || username.contains(nameLower);
-                        }
-                        return false;
-                    })
-                    .collect(Collectors.toList());
-
-            // If multiple matches, prefer exact email username match
-            User matchedUser = null;
-            for (User user : users) {
-                if (user.getEmail() != null) {
-                    String emailUsername = user.getEmail().split("@")[0].toLowerCase();
-                    if (emailUsername.equals(username)) {
-                        matchedUser = user;
-                        break;
-                    }
-                }
-            }
+            UserMentionIndex.Candidate candidate = userMentionIndex.resolve(username);
 
-            // If no exact match, use first match
-            if (matchedUser == null && !users.isEmpty()) {
-                matchedUser = users.get(0);
+            // Add user if found, active, and not the comment author
+            if (candidate != null &&
+                    "ACTIVE".equalsIgnoreCase(candidate.getStatus()) &&
+                    !candidate.getUserId().equals(commentAuthor.getUserId())) {
+                matchedIds.add(candidate.getUserId());
             }
+        }
+        if (matchedIds.isEmpty()) {
+            return mentionedUsers;
+        }
 
-            // Add user if found, active, and not the comment author
+        // Load only the matched users, in one query
+        for (User matchedUser : userRepository.findAllById(matchedIds)) {
+            // Check if user can be mentioned
             // Managers and Admins can always be mentioned, even if not assigned to the initiative
             // Employees can be mentioned if they're assigned to the initiative OR if they're managers/admins
-            if (matchedUser != null &&
-                    "ACTIVE".equalsIgnoreCase(matchedUser.getStatus()) &&
-                    !matchedUser.getUserId().equals(commentAuthor.getUserId())) {
-
-                // Check if user can be mentioned
-                boolean canBeMentioned = false;
-
-                // Managers and Admins can always be mentioned
-                String userRole = matchedUser.getRole();
-                if ("MANAGER".equalsIgnoreCase(userRole) || "ADMIN".equalsIgnoreCase(userRole)) {
-                    canBeMentioned = true;
-                } else {
-                    // For employees, check if they're assigned to the initiative
-                    canBeMentioned = canComment(initiative, matchedUser);
-                }
-
-                if (canBeMentioned) {
-                    mentionedUsers.add(matchedUser);
-                }
+            boolean canBeMentioned;
+            String userRole = matchedUser.getRole();
+            if ("MANAGER".equalsIgnoreCase(userRole) || "ADMIN".equalsIgnoreCase(userRole)) {
+                canBeMentioned = true;
+            } else {
+                // For employees, check if they're assigned to the initiative
+                canBeMentioned = canComment(initiative, matchedUser);
+            }
+
+            if (canBeMentioned) {
+                mentionedUsers.add(matchedUser);
             }
         }
 
@@ -277,33 +332,26 @@ public class CommentServiceImpl implements CommentService{
     }
 
     /**
-     * Notify mentioned users
+     * Notifications for mentioned users
      */
-    private void notifyMentionedUsers(Set<User> mentionedUsers, User commentAuthor, Initiative initiative, Comment comment) {
+    private List<CreateNotificationRequest> mentionNotifications(Set<User> mentionedUsers, User commentAuthor, Initiative initiative) {
+        List<CreateNotificationRequest> notifications = new ArrayList<>();
         for (User mentionedUser : mentionedUsers) {
-            try {
-                notificationService.createNotification(
-                        new CreateNotificationRequest(
-                                mentionedUser.getUserId(),
-                                "MENTION",
-                                commentAuthor.getName() + " mentioned you in a comment on initiative: " + initiative.getTitle(),
-                                "INITIATIVE",
-                                initiative.getInitiativeId()
-                        )
-                );
-                logger.info("Successfully sent mention notification: userId={}, email={}, initiativeId={}",
-                        mentionedUser.getUserId(), mentionedUser.getEmail(), initiative.getInitiativeId());
-            } catch (Exception e) {
-                logger.error("Failed to send mention notification: userId={}, email={}, initiativeId={}",
-                        mentionedUser.getUserId(), mentionedUser.getEmail(), initiative.getInitiativeId(), e);
-            }
+            notifications.add(new CreateNotificationRequest(
+                    mentionedUser.getUserId(),
+                    "MENTION",
+                    commentAuthor.getName() + " mentioned you in a comment on initiative: " + initiative.getTitle(),
+                    "INITIATIVE",
+                    initiative.getInitiativeId()
+            ));
         }
+        return notifications;
     }
 
     /**
-     * Notify stakeholders (assigned users and managers) about new comment
+     * Notifications for stakeholders (assigned users and managers) about a new comment
      */
-    private void notifyStakeholders(Initiative initiative, User commentAuthor, Comment comment) {
+    private List<CreateNotificationRequest> stakeholderNotifications(Initiative initiative, User commentAuthor, Comment comment) {
         Set<User> stakeholders = new HashSet<>();
 
         // Add assigned users
@@ -322,22 +370,16 @@ public class CommentServiceImpl implements CommentService{
         stakeholders.remove(commentAuthor);
         stakeholders.removeAll(comment.getMentionedUsers());
 
-        // Notify stakeholders
+        List<CreateNotificationRequest> notifications = new ArrayList<>();
         for (User stakeholder : stakeholders) {
-            try {
-                notificationService.createNotification(
-                        new CreateNotificationRequest(
-                                stakeholder.getUserId(),
-                                "COMMENT",
-                                commentAuthor.getName() + " commented on initiative: " + initiative.getTitle(),
-                                "INITIATIVE",
-                                initiative.getInitiativeId()
-                        )
-                );
-            } catch (Exception e) {
-                logger.error("Failed to notify stakeholder: userId={}, initiativeId={}",
-                        stakeholder.getUserId(), initiative.getInitiativeId(), e);
-            }
+            notifications.add(new CreateNotificationRequest(
+                    stakeholder.getUserId(),
+                    "COMMENT",
+                    commentAuthor.getName() + " commented on initiative: " + initiative.getTitle(),
+                    "INITIATIVE",
+                    initiative.getInitiativeId()
+            ));
         }
+        return notifications;
     }
 }
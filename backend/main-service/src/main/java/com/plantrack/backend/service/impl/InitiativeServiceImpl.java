@@ -1,19 +1,24 @@
 package com.plantrack.backend.service.impl;
 
 import com.plantrack.backend.dto.InitiativeAssignedRequest;
+import com.plantrack.backend.dto.InitiativeSnapshot;
 import com.plantrack.backend.dto.StatusUpdateRequest;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
 import com.plantrack.backend.feign.NotificationService;
 import com.plantrack.backend.model.Initiative;
 import com.plantrack.backend.model.Milestone;
 import com.plantrack.backend.model.User;
+import com.plantrack.backend.notification.NotificationDispatcher;
 import com.plantrack.backend.repository.InitiativeRepository;
 import com.plantrack.backend.repository.MilestoneRepository;
 import com.plantrack.backend.repository.UserRepository;
 import com.plantrack.backend.service.InitiativeService;
 import com.plantrack.backend.service.AuditService;
+import com.plantrack.backend.service.InitiativeStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -45,7 +50,17 @@ public class InitiativeServiceImpl implements InitiativeService{
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // 1. Create Initiative
+    @Transactional
     public Initiative createInitiative(Long milestoneId, List<Long> assignedUserIds, Initiative initiative) {
         logger.debug("Creating initiative: milestoneId={}, assignedUserIds={}, title={}",
                 milestoneId, assignedUserIds, initiative.getTitle());
@@ -82,6 +97,8 @@ public class InitiativeServiceImpl implements InitiativeService{
         initiative.setAssignedUsers(assignedUsers);
 
         Initiative savedInitiative = initiativeRepository.save(initiative);
+        initiativeStatsService.recordChange(InitiativeSnapshot.none(), InitiativeSnapshot.of(savedInitiative));
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("INITIATIVE", savedInitiative.getInitiativeId(), assignedUsers));
         logger.info("Created initiative: initiativeId={}, title={}, milestoneId={}",
                 savedInitiative.getInitiativeId(), savedInitiative.getTitle(), milestoneId);
 
@@ -93,22 +110,24 @@ public class InitiativeServiceImpl implements InitiativeService{
                 "Created initiative: " + savedInitiative.getTitle() + " in milestone: " + milestone.getTitle() +
                         " assigned to: " + assigneeNames);
 
-        // Notify all assigned users
+        // Notify all assigned users once the initiative is committed
         for (User user : assignedUsers) {
-            try {
-                notificationService.notifyInitiativeAssigned(
-                        new InitiativeAssignedRequest(
-                                user.getUserId(),
-                                savedInitiative.getTitle(),
-                                savedInitiative.getInitiativeId()
-                        )
-                );
-                logger.info("Successfully sent initiative assignment notification: userId={}, email={}, initiativeId={}, title={}",
-                        user.getUserId(), user.getEmail(), savedInitiative.getInitiativeId(), savedInitiative.getTitle());
-            } catch (Exception e) {
-                logger.error("Failed to send notification to employee: userId={}, email={}, initiativeId={}",
-                        user.getUserId(), user.getEmail(), savedInitiative.getInitiativeId(), e);
-            }
+            InitiativeAssignedRequest request = new InitiativeAssignedRequest(
+                    user.getUserId(),
+                    savedInitiative.getTitle(),
+                    savedInitiative.getInitiativeId()
+            );
+            String email = user.getEmail();
+            notificationDispatcher.dispatch(() -> {
+                try {
+                    notificationService.notifyInitiativeAssigned(request);
+                    logger.info("Successfully sent initiative assignment notification: userId={}, email={}, initiativeId={}, title={}",
+                            request.getEmployeeUserId(), email, request.getInitiativeId(), request.getInitiativeTitle());
+                } catch (Exception e) {
+                    logger.error("Failed to send notification to employee: userId={}, email={}, initiativeId={}",
+                            request.getEmployeeUserId(), email, request.getInitiativeId(), e);
+                }
+            });
         }
 
         // TRIGGER: Recalculate Progress immediately after adding a new task
@@ -118,6 +137,7 @@ public class InitiativeServiceImpl implements InitiativeService{
         return savedInitiative;
     }
 
+    @Transactional
     public Initiative updateInitiative(Long id, Initiative updatedData) {
         logger.debug("Updating initiative: initiativeId={}, newStatus={}", id, updatedData.getStatus());
 
@@ -128,6 +148,8 @@ public class InitiativeServiceImpl implements InitiativeService{
                 });
 
         String oldStatus = initiative.getStatus();
+        InitiativeSnapshot before = InitiativeSnapshot.of(initiative);
+        Set<User> affectedUsers = new HashSet<>(initiative.getAssignedUsers());
 
         // Security check: Employees can only update their own assigned initiatives
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -193,6 +215,9 @@ public class InitiativeServiceImpl implements InitiativeService{
         }
 
         Initiative savedInitiative = initiativeRepository.save(initiative);
+        initiativeStatsService.recordChange(before, InitiativeSnapshot.of(savedInitiative));
+        affectedUsers.addAll(savedInitiative.getAssignedUsers());
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("INITIATIVE", id, affectedUsers));
 
         // Audit Log - Status change
         if (updatedData.getStatus() != null && !oldStatus.equals(updatedData.getStatus())) {
@@ -219,17 +244,25 @@ public class InitiativeServiceImpl implements InitiativeService{
                                 User currentUserObj = userRepository.findByEmail(currentUserEmail)
                                         .orElseThrow(() -> new RuntimeException("Current user not found: " + currentUserEmail));
                                 String employeeName = currentUserObj.getName();
-                                notificationService.notifyStatusUpdate(
-                                        new StatusUpdateRequest(
-                                                planOwner.getUserId(),
-                                                employeeName,
-                                                savedInitiative.getTitle(),
-                                                updatedData.getStatus(),
-                                                id
-                                        )
+                                StatusUpdateRequest request = new StatusUpdateRequest(
+                                        planOwner.getUserId(),
+                                        employeeName,
+                                        savedInitiative.getTitle(),
+                                        updatedData.getStatus(),
+                                        id
                                 );
-                                logger.info("Successfully sent status update notification to manager: managerId={}, email={}, employeeName={}, initiativeId={}, newStatus={}",
-                                        planOwner.getUserId(), planOwner.getEmail(), employeeName, id, updatedData.getStatus());
+                                String managerEmail = planOwner.getEmail();
+                                // Sent once the status change is committed
+                                notificationDispatcher.dispatch(() -> {
+                                    try {
+                                        notificationService.notifyStatusUpdate(request);
+                                        logger.info("Successfully sent status update notification to manager: managerId={}, email={}, employeeName={}, initiativeId={}, newStatus={}",
+                                                request.getManagerUserId(), managerEmail, employeeName, id, request.getNewStatus());
+                                    } catch (Exception e) {
+                                        logger.error("Failed to notify manager about status update: initiativeId={}, employeeEmail={}",
+                                                id, currentUserEmail, e);
+                                    }
+                                });
                             } else {
                                 logger.warn("Plan owner is null for initiative: initiativeId={}", id);
                             }
@@ -294,21 +327,23 @@ public class InitiativeServiceImpl implements InitiativeService{
                 Set<Long> newlyAssignedIds = new HashSet<>(newAssigneeIds);
                 newlyAssignedIds.removeAll(oldAssigneeIds);
 
+                // Sent once the reassignment is committed
                 for (Long newUserId : newlyAssignedIds) {
-                    try {
-                        notificationService.notifyInitiativeAssigned(
-                                new InitiativeAssignedRequest(
-                                        newUserId,
-                                        savedInitiative.getTitle(),
-                                        id
-                                )
-                        );
-                        logger.info("Successfully sent notification to newly assigned user: userId={}, initiativeId={}, title={}",
-                                newUserId, id, savedInitiative.getTitle());
-                    } catch (Exception e) {
-                        logger.error("Failed to notify newly assigned user: userId={}, initiativeId={}",
-                                newUserId, id, e);
-                    }
+                    InitiativeAssignedRequest request = new InitiativeAssignedRequest(
+                            newUserId,
+                            savedInitiative.getTitle(),
+                            id
+                    );
+                    notificationDispatcher.dispatch(() -> {
+                        try {
+                            notificationService.notifyInitiativeAssigned(request);
+                            logger.info("Successfully sent notification to newly assigned user: userId={}, initiativeId={}, title={}",
+                                    newUserId, id, request.getInitiativeTitle());
+                        } catch (Exception e) {
+                            logger.error("Failed to notify newly assigned user: userId={}, initiativeId={}",
+                                    newUserId, id, e);
+                        }
+                    });
                 }
             }
         }
@@ -383,6 +418,7 @@ public class InitiativeServiceImpl implements InitiativeService{
 
     // Add this method inside the class
     @Override
+    @Transactional
     public void deleteInitiative(Long id) {
         logger.debug("Deleting initiative: initiativeId={}", id);
 
@@ -399,6 +435,8 @@ public class InitiativeServiceImpl implements InitiativeService{
         auditService.logUpdate("INITIATIVE", id, "Deleted initiative: " + initiative.getTitle());
 
         // Delete the initiative
+        initiativeStatsService.recordChange(InitiativeSnapshot.of(initiative), InitiativeSnapshot.none());
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("INITIATIVE", id, initiative.getAssignedUsers()));
         initiativeRepository.deleteById(id);
         initiativeRepository.flush();
 
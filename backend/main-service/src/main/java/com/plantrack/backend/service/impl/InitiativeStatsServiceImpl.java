@@ -0,0 +1,163 @@
+package com.plantrack.backend.service.impl;
+
+import com.plantrack.backend.dto.InitiativeCountsDTO;
+import com.plantrack.backend.dto.InitiativeSnapshot;
+import com.plantrack.backend.model.RollupPeriod;
+import com.plantrack.backend.model.UserCompletionRollup;
+import com.plantrack.backend.model.UserInitiativeCounter;
+import com.plantrack.backend.repository.UserCompletionRollupRepository;
+import com.plantrack.backend.repository.UserInitiativeCounterRepository;
+import com.plantrack.backend.service.InitiativeStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class InitiativeStatsServiceImpl implements InitiativeStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InitiativeStatsService.class);
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Autowired
+    private UserInitiativeCounterRepository counterRepository;
+
+    @Autowired
+    private UserCompletionRollupRepository rollupRepository;
+
+    @Transactional
+    public void recordChange(InitiativeSnapshot before, InitiativeSnapshot after) {
+        // userId -> status -> delta; a pure no-op (same users, same status) nets out to nothing
+        Map<Long, Map<String, Integer>> deltas = new HashMap<>();
+        addDeltas(deltas, before, -1);
+        addDeltas(deltas, after, 1);
+
+        int updates = 0;
+        for (Map.Entry<Long, Map<String, Integer>> userEntry : deltas.entrySet()) {
+            for (Map.Entry<String, Integer> statusEntry : userEntry.getValue().entrySet()) {
+                if (statusEntry.getValue() != 0) {
+                    counterRepository.increment(userEntry.getKey(), statusEntry.getKey(), statusEntry.getValue());
+                    updates++;
+                }
+            }
+        }
+
+        // Completion rollups: take the old completion out of its buckets, put the new one in
+        Map<UserCompletionRollup.RollupId, Integer> rollupDeltas = new HashMap<>();
+        addRollupDeltas(rollupDeltas, before, -1);
+        addRollupDeltas(rollupDeltas, after, 1);
+        for (Map.Entry<UserCompletionRollup.RollupId, Integer> entry : rollupDeltas.entrySet()) {
+            if (entry.getValue() != 0) {
+                UserCompletionRollup.RollupId id = entry.getKey();
+                rollupRepository.increment(id.getUserId(), id.getPeriodType().name(), id.getPeriodStart(), entry.getValue());
+                updates++;
+            }
+        }
+        logger.trace("Initiative counters updated: counterUpdates={}", updates);
+    }
+
+    public InitiativeCountsDTO getCounts(Long userId) {
+        return toCounts(counterRepository.findByUserId(userId));
+    }
+
+    public Map<Long, InitiativeCountsDTO> getAllCounts() {
+        Map<Long, List<UserInitiativeCounter>> byUser = new HashMap<>();
+        for (UserInitiativeCounter counter : counterRepository.findAll()) {
+            byUser.computeIfAbsent(counter.getUserId(), id -> new ArrayList<>()).add(counter);
+        }
+        Map<Long, InitiativeCountsDTO> result = new HashMap<>(byUser.size() * 2);
+        byUser.forEach((userId, counters) -> result.put(userId, toCounts(counters)));
+        return result;
+    }
+
+    public Map<LocalDate, Integer> getCompletions(Long userId, RollupPeriod period, LocalDate from) {
+        Map<LocalDate, Integer> completions = new HashMap<>();
+        for (UserCompletionRollup rollup : rollupRepository
+                .findByUserIdAndPeriodTypeAndPeriodStartGreaterThanEqual(userId, period, from)) {
+            if (rollup.getCompletedCount() > 0) {
+                completions.put(rollup.getPeriodStart(), (int) rollup.getCompletedCount());
+            }
+        }
+        return completions;
+    }
+
+    public Map<Long, Map<LocalDate, Integer>> getAllCompletions(RollupPeriod period, LocalDate from) {
+        Map<Long, Map<LocalDate, Integer>> completions = new HashMap<>();
+        for (UserCompletionRollup rollup : rollupRepository.findByPeriodTypeAndPeriodStartGreaterThanEqual(period, from)) {
+            if (rollup.getCompletedCount() > 0) {
+                completions.computeIfAbsent(rollup.getUserId(), id -> new HashMap<>())
+                        .put(rollup.getPeriodStart(), (int) rollup.getCompletedCount());
+            }
+        }
+        return completions;
+    }
+
+    @Transactional
+    public void removeUser(Long userId) {
+        counterRepository.subtractPlansOwnedBy(userId);
+        counterRepository.deleteByUserId(userId);
+        rollupRepository.subtractPlansOwnedBy(userId);
+        rollupRepository.deleteByUserId(userId);
+        logger.debug("Removed initiative counters for user: userId={}", userId);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${plantrack.analytics.counters.rebuild-cron:0 30 2 * * *}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        counterRepository.deleteAllCounters();
+        int rows = counterRepository.rebuildFromAssignments();
+
+        // Weeks and months are summed from the freshly rebuilt day buckets
+        rollupRepository.deleteAllRollups();
+        int rollupRows = rollupRepository.rebuildDays();
+        rollupRows += rollupRepository.rebuildWeeksFromDays();
+        rollupRows += rollupRepository.rebuildMonthsFromDays();
+        logger.info("Rebuilt initiative counters: rows={}, rollupRows={}, duration={}ms",
+                rows, rollupRows, System.currentTimeMillis() - startTime);
+    }
+
+    private void addDeltas(Map<Long, Map<String, Integer>> deltas, InitiativeSnapshot snapshot, int sign) {
+        if (snapshot.getStatus() == null) {
+            return;
+        }
+        String status = snapshot.getStatus().toUpperCase(Locale.ROOT);
+        for (Long userId : snapshot.getAssigneeIds()) {
+            deltas.computeIfAbsent(userId, id -> new HashMap<>()).merge(status, sign, Integer::sum);
+        }
+    }
+
+    private void addRollupDeltas(Map<UserCompletionRollup.RollupId, Integer> deltas, InitiativeSnapshot snapshot, int sign) {
+        if (!snapshot.isCompleted()) {
+            return;
+        }
+        LocalDate day = snapshot.getCompletedAt().toLocalDate();
+        for (Long userId : snapshot.getAssigneeIds()) {
+            for (RollupPeriod period : RollupPeriod.values()) {
+                deltas.merge(new UserCompletionRollup.RollupId(userId, period, period.start(day)), sign, Integer::sum);
+            }
+        }
+    }
+
+    private InitiativeCountsDTO toCounts(List<UserInitiativeCounter> counters) {
+        Map<String, Integer> byStatus = new HashMap<>();
+        int assigned = 0;
+        for (UserInitiativeCounter counter : counters) {
+            // Counters can dip below zero between a drifted write and the next rebuild; never report that
+            int count = (int) Math.max(0, counter.getInitiativeCount());
+            byStatus.put(counter.getStatus(), count);
+            assigned += count;
+        }
+        int completed = byStatus.getOrDefault(STATUS_COMPLETED, 0);
+        return new InitiativeCountsDTO(assigned, completed, byStatus);
+    }
+}
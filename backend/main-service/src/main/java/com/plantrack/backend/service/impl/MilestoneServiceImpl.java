@@ -1,7 +1,10 @@
 package com.plantrack.backend.service.impl;
 
 import com.plantrack.backend.dto.CreateNotificationRequest;
+import com.plantrack.backend.dto.InitiativeSnapshot;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
 import com.plantrack.backend.feign.NotificationService;
+import com.plantrack.backend.model.AuditLogItem;
 import com.plantrack.backend.model.Initiative;
 import com.plantrack.backend.model.Milestone;
 import com.plantrack.backend.model.Plan;
@@ -14,14 +17,19 @@ import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import com.plantrack.backend.service.AuditService;
+import com.plantrack.backend.service.InitiativeStatsService;
 import com.plantrack.backend.service.MilestoneService;
 
 @Service
@@ -39,6 +47,10 @@ public class MilestoneServiceImpl implements MilestoneService {
     private NotificationService notificationService;
     @Autowired
     private AuditService auditService;
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -48,6 +60,7 @@ public class MilestoneServiceImpl implements MilestoneService {
 
         milestone.setPlan(plan);
         Milestone savedMilestone = milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("MILESTONE", savedMilestone.getMilestoneId(), Collections.emptyList()));
 
         // Audit Log
         auditService.logCreate("MILESTONE", savedMilestone.getMilestoneId(),
@@ -72,6 +85,7 @@ public class MilestoneServiceImpl implements MilestoneService {
         milestone.setStatus(details.getStatus());
 
         Milestone savedMilestone = milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("MILESTONE", savedMilestone.getMilestoneId(), Collections.emptyList()));
 
         // Audit Log
         if (details.getStatus() != null && oldStatus != null && !oldStatus.equals(details.getStatus())) {
@@ -95,11 +109,16 @@ public class MilestoneServiceImpl implements MilestoneService {
         // Get all associated initiatives (they are already loaded due to EAGER fetch)
         List<Initiative> initiatives = new ArrayList<>(milestone.getInitiatives());
 
+        Set<User> affectedUsers = new HashSet<>();
+
         // First, delete all initiatives and their relationships
         // This must be done before deleting the milestone to avoid foreign key constraint issues
         for (Initiative initiative : initiatives) {
             Long initiativeId = initiative.getInitiativeId();
             if (initiativeId != null) {
+                initiativeStatsService.recordChange(InitiativeSnapshot.of(initiative), InitiativeSnapshot.none());
+                affectedUsers.addAll(initiative.getAssignedUsers());
+
                 // Clear ManyToMany relationships first using native SQL to ensure it happens
                 entityManager.createNativeQuery("DELETE FROM initiative_assignees WHERE initiative_id = :initiativeId")
                         .setParameter("initiativeId", initiativeId)
@@ -124,6 +143,7 @@ public class MilestoneServiceImpl implements MilestoneService {
 
         // Flush to ensure all deletions are executed
         entityManager.flush();
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("MILESTONE", milestoneId, affectedUsers));
 
         // Audit Log (after successful deletion)
         auditService.logDelete("MILESTONE", milestoneId, "Deleted milestone: " + milestoneTitle);
@@ -146,23 +166,26 @@ public class MilestoneServiceImpl implements MilestoneService {
         String oldStatus = milestone.getStatus() != null ? milestone.getStatus() : "PLANNED";
         int initiativeCancelledCount = 0;
         List<Long> notifiedUserIds = new ArrayList<>();
+        Set<User> affectedUsers = new HashSet<>();
+        List<AuditLogItem> auditItems = new ArrayList<>();
 
         // Cascade to initiatives
         List<Initiative> initiatives = milestone.getInitiatives();
         for (Initiative initiative : initiatives) {
             if (!STATUS_CANCELLED.equals(initiative.getStatus())) {
                 String oldInitiativeStatus = initiative.getStatus();
+                InitiativeSnapshot before = InitiativeSnapshot.of(initiative);
                 initiative.setStatus(STATUS_CANCELLED);
                 initiativeRepository.save(initiative);
+                initiativeStatsService.recordChange(before, InitiativeSnapshot.of(initiative));
                 initiativeCancelledCount++;
 
-                // Audit log for initiative
-                auditService.logStatusChange("INITIATIVE", initiative.getInitiativeId(),
-                        oldInitiativeStatus, STATUS_CANCELLED,
-                        "Initiative '" + initiative.getTitle() + "' cancelled (cascade from milestone cancellation)");
+                // Audit item for initiative (written with the milestone entry below)
+                auditItems.add(new AuditLogItem("INITIATIVE", initiative.getInitiativeId(), oldInitiativeStatus));
 
                 // Collect user IDs for notification
                 if (initiative.getAssignedUsers() != null) {
+                    affectedUsers.addAll(initiative.getAssignedUsers());
                     for (User user : initiative.getAssignedUsers()) {
                         if (!notifiedUserIds.contains(user.getUserId())) {
                             notifiedUserIds.add(user.getUserId());
@@ -175,11 +198,13 @@ public class MilestoneServiceImpl implements MilestoneService {
         // Cancel the milestone itself
         milestone.setStatus(STATUS_CANCELLED);
         milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("MILESTONE", milestoneId, affectedUsers));
 
-        // Audit log for milestone
-        auditService.logStatusChange("MILESTONE", milestoneId, oldStatus, STATUS_CANCELLED,
+        // Audit log for milestone, with every cancelled initiative as an item
+        auditService.logCascadeStatusChange("MILESTONE", milestoneId, oldStatus, STATUS_CANCELLED,
                 "Milestone '" + milestone.getTitle() + "' cancelled with cascade (" +
-                        initiativeCancelledCount + " initiatives affected)");
+                        initiativeCancelledCount + " initiatives affected)",
+                auditItems);
 
         // Send notifications to all affected users
         String planTitle = milestone.getPlan() != null ? milestone.getPlan().getTitle() : "Unknown Plan";
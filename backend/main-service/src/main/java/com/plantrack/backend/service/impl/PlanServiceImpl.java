@@ -1,7 +1,10 @@
 package com.plantrack.backend.service.impl;
 
 import com.plantrack.backend.dto.CreateNotificationRequest;
+import com.plantrack.backend.dto.InitiativeSnapshot;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
 import com.plantrack.backend.feign.NotificationService;
+import com.plantrack.backend.model.AuditLogItem;
 import com.plantrack.backend.model.Initiative;
 import com.plantrack.backend.model.Milestone;
 import com.plantrack.backend.model.Plan;
@@ -15,6 +18,7 @@ import com.plantrack.backend.service.PlanService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,10 +26,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import com.plantrack.backend.service.AuditService;
+import com.plantrack.backend.service.InitiativeStatsService;
 
 @Service
 public class PlanServiceImpl implements PlanService {
@@ -44,6 +52,10 @@ public class PlanServiceImpl implements PlanService {
     private NotificationService notificationService;
     @Autowired
     private AuditService auditService;
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // 1. Logic to Create a Plan linked to a User + Trigger Notification
     public Plan createPlan(Long userId, Plan plan) {
@@ -65,6 +77,7 @@ public class PlanServiceImpl implements PlanService {
         }
 
         Plan savedPlan = planRepository.save(plan);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("PLAN", savedPlan.getPlanId(), Collections.singleton(user)));
         logger.info("Created plan: planId={}, title={}, userId={}, priority={}",
                 savedPlan.getPlanId(), savedPlan.getTitle(), userId, savedPlan.getPriority());
 
@@ -147,6 +160,7 @@ public class PlanServiceImpl implements PlanService {
         plan.setEndDate(planDetails.getEndDate());
 
         Plan savedPlan = planRepository.save(plan);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("PLAN", planId, Collections.singleton(plan.getUser())));
 
         // Audit Log
         if (planDetails.getStatus() != null && oldStatus != null && !oldStatus.equals(planDetails.getStatus().toString())) {
@@ -190,6 +204,9 @@ public class PlanServiceImpl implements PlanService {
         int milestoneCancelledCount = 0;
         int initiativeCancelledCount = 0;
         List<Long> notifiedUserIds = new ArrayList<>();
+        Set<User> affectedUsers = new HashSet<>();
+        affectedUsers.add(plan.getUser());
+        List<AuditLogItem> auditItems = new ArrayList<>();
 
         // Cascade to milestones and their initiatives
         for (Milestone milestone : milestones) {
@@ -199,27 +216,26 @@ public class PlanServiceImpl implements PlanService {
                 milestoneRepository.save(milestone);
                 milestoneCancelledCount++;
 
-                // Audit log for milestone
-                auditService.logStatusChange("MILESTONE", milestone.getMilestoneId(),
-                        oldMilestoneStatus, STATUS_CANCELLED,
-                        "Milestone '" + milestone.getTitle() + "' cancelled (cascade from plan cancellation)");
+                // Audit item for milestone (written with the plan entry below)
+                auditItems.add(new AuditLogItem("MILESTONE", milestone.getMilestoneId(), oldMilestoneStatus));
             }
 
             // Cascade to initiatives
             for (Initiative initiative : milestone.getInitiatives()) {
                 if (!STATUS_CANCELLED.equals(initiative.getStatus())) {
                     String oldInitiativeStatus = initiative.getStatus();
+                    InitiativeSnapshot before = InitiativeSnapshot.of(initiative);
                     initiative.setStatus(STATUS_CANCELLED);
                     initiativeRepository.save(initiative);
+                    initiativeStatsService.recordChange(before, InitiativeSnapshot.of(initiative));
                     initiativeCancelledCount++;
 
-                    // Audit log for initiative
-                    auditService.logStatusChange("INITIATIVE", initiative.getInitiativeId(),
-                            oldInitiativeStatus, STATUS_CANCELLED,
-                            "Initiative '" + initiative.getTitle() + "' cancelled (cascade from plan cancellation)");
+                    // Audit item for initiative
+                    auditItems.add(new AuditLogItem("INITIATIVE", initiative.getInitiativeId(), oldInitiativeStatus));
 
                     // Collect user IDs for notification
                     if (initiative.getAssignedUsers() != null) {
+                        affectedUsers.addAll(initiative.getAssignedUsers());
                         for (User user : initiative.getAssignedUsers()) {
                             if (!notifiedUserIds.contains(user.getUserId())) {
                                 notifiedUserIds.add(user.getUserId());
@@ -233,11 +249,13 @@ public class PlanServiceImpl implements PlanService {
         // Cancel the plan itself
         plan.setStatus(com.plantrack.backend.model.PlanStatus.CANCELLED);
         planRepository.save(plan);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("PLAN", planId, affectedUsers));
 
-        // Audit log for plan
-        auditService.logStatusChange("PLAN", planId, oldStatus, STATUS_CANCELLED,
+        // Audit log for plan, with every cancelled milestone and initiative as an item
+        auditService.logCascadeStatusChange("PLAN", planId, oldStatus, STATUS_CANCELLED,
                 "Plan '" + plan.getTitle() + "' cancelled with cascade (" +
-                        milestoneCancelledCount + " milestones, " + initiativeCancelledCount + " initiatives affected)");
+                        milestoneCancelledCount + " milestones, " + initiativeCancelledCount + " initiatives affected)",
+                auditItems);
 
         // Send notifications to all affected users
         for (Long notifyUserId : notifiedUserIds) {
@@ -329,6 +347,7 @@ public class PlanServiceImpl implements PlanService {
     }
 
     // 6. Logic to Delete Plan
+    @Transactional
     public void deletePlan(Long planId) {
         logger.info("Deleting plan: planId={}", planId);
 
@@ -339,7 +358,18 @@ public class PlanServiceImpl implements PlanService {
                 });
 
         String planTitle = plan.getTitle();
+
+        // Milestones and initiatives go with the plan (cascade), so take them off the counters first
+        Set<User> affectedUsers = new HashSet<>();
+        affectedUsers.add(plan.getUser());
+        for (Milestone milestone : plan.getMilestones()) {
+            for (Initiative initiative : milestone.getInitiatives()) {
+                initiativeStatsService.recordChange(InitiativeSnapshot.of(initiative), InitiativeSnapshot.none());
+                affectedUsers.addAll(initiative.getAssignedUsers());
+            }
+        }
         planRepository.deleteById(planId);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("PLAN", planId, affectedUsers));
 
         // Audit Log
         auditService.logDelete("PLAN", planId, "Deleted plan: " + planTitle);
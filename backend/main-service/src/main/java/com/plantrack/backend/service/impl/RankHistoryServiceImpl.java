@@ -0,0 +1,81 @@
+package com.plantrack.backend.service.impl;
+
+import com.plantrack.backend.analytics.PerformanceRankingEngine;
+import com.plantrack.backend.analytics.RankingTable;
+import com.plantrack.backend.analytics.UserRanking;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
+import com.plantrack.backend.model.RollupPeriod;
+import com.plantrack.backend.repository.UserRankSnapshotRepository;
+import com.plantrack.backend.service.RankHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class RankHistoryServiceImpl implements RankHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankHistoryService.class);
+
+    @Autowired
+    private PerformanceRankingEngine rankingEngine;
+
+    @Autowired
+    private UserRankSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${plantrack.analytics.rank-snapshot.retention-weeks:104}")
+    private int retentionWeeks;
+
+    @Transactional
+    @Scheduled(cron = "${plantrack.analytics.rank-snapshot.cron:0 5 0 * * MON}")
+    public int captureSnapshot() {
+        long startTime = System.currentTimeMillis();
+
+        // 1. Fresh ranking pass (not the cached table, which may be minutes old)
+        RankingTable rankings = rankingEngine.computeRankings();
+
+        // 2. One row per user for the week that just ended, upserted in one batch
+        LocalDate periodStart = RollupPeriod.WEEK.previous(RollupPeriod.WEEK.start(LocalDate.now()));
+        Timestamp capturedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(rankings.size());
+        for (UserRanking row : rankings.getRanked()) {
+            rows.add(new Object[]{row.getUserId(), Date.valueOf(periodStart), row.getOverallScore(),
+                    row.getRank(), row.getDepartmentRank(), capturedAt});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO user_rank_snapshots (user_id, period_start, overall_score, global_rank, department_rank, captured_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE overall_score = VALUES(overall_score), global_rank = VALUES(global_rank), " +
+                    "department_rank = VALUES(department_rank), captured_at = VALUES(captured_at)", rows);
+        }
+
+        // 3. Keep the table compact
+        int purged = snapshotRepository.deleteOlderThan(periodStart.minusWeeks(retentionWeeks));
+
+        // 4. Cached rankings carry the previous ranks; drop them
+        eventPublisher.publishEvent(AnalyticsDataChangedEvent.everything("RANK_SNAPSHOT", null));
+
+        logger.info("Captured rank snapshot: periodStart={}, rows={}, purged={}, duration={}ms",
+                periodStart, rows.size(), purged, System.currentTimeMillis() - startTime);
+        return rows.size();
+    }
+}
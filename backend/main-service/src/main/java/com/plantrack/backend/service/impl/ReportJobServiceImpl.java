@@ -0,0 +1,159 @@
+package com.plantrack.backend.service.impl;
+
+import com.plantrack.backend.dto.ReportJobDTO;
+import com.plantrack.backend.model.Report;
+import com.plantrack.backend.service.ReportJobService;
+import com.plantrack.backend.service.ReportService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs department reports on a small bounded pool instead of the request thread.
+ * Jobs live in memory only: they are lost on restart, while the reports they
+ * produced are stored as usual.
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    @Autowired
+    private ReportService reportService;
+
+    private final ThreadPoolExecutor executor;
+    private final long retentionMillis;
+
+    // jobId -> job, oldest first; finished jobs are purged after the retention period
+    private final LinkedHashMap<String, ReportJob> jobs = new LinkedHashMap<>();
+    // Lower-cased department -> its queued or running job
+    private final Map<String, ReportJob> activeByDepartment = new HashMap<>();
+
+    public ReportJobServiceImpl(@Value("${plantrack.reports.jobs.threads:2}") int threads,
+                                @Value("${plantrack.reports.jobs.queue-capacity:20}") int queueCapacity,
+                                @Value("${plantrack.reports.jobs.retention-ms:3600000}") long retentionMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.retentionMillis = retentionMillis;
+    }
+
+    public synchronized ReportJobDTO submit(String department) {
+        purgeFinished();
+
+        // 1. Merge into the department's unfinished job, if any
+        String key = department.toLowerCase(Locale.ROOT);
+        ReportJob active = activeByDepartment.get(key);
+        if (active != null) {
+            logger.debug("Report job merged: jobId={}, department={}", active.jobId, department);
+            return active.toDTO();
+        }
+
+        // 2. Otherwise queue a new one; a full queue is refused rather than piling up
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), department);
+        try {
+            executor.execute(() -> run(job, key));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Report job rejected, queue full: department={}", department);
+            throw new TaskRejectedException("Too many reports are being generated. Please try again shortly.", e);
+        }
+        jobs.put(job.jobId, job);
+        activeByDepartment.put(key, job);
+        logger.info("Report job queued: jobId={}, department={}", job.jobId, department);
+        return job.toDTO();
+    }
+
+    public synchronized ReportJobDTO getJob(String jobId) {
+        purgeFinished();
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Report job not found with id: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    private void run(ReportJob job, String key) {
+        synchronized (this) {
+            job.status = RUNNING;
+            job.startedAt = LocalDateTime.now();
+        }
+        Report report = null;
+        String error = null;
+        try {
+            report = reportService.generateDepartmentReport(job.department);
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            logger.warn("Report job failed: jobId={}, department={}, error={}", job.jobId, job.department, e.getMessage());
+        }
+        synchronized (this) {
+            job.report = report;
+            job.error = error;
+            job.status = error == null ? COMPLETED : FAILED;
+            job.finishedAt = LocalDateTime.now();
+            activeByDepartment.remove(key, job);
+        }
+    }
+
+    private void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+        Iterator<ReportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ReportJob job = iterator.next();
+            if (job.finishedAt != null && job.finishedAt.isBefore(cutoff)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class ReportJob {
+        final String jobId;
+        final String department;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        String status = QUEUED;
+        LocalDateTime startedAt;
+        LocalDateTime finishedAt;
+        Report report;
+        String error;
+
+        ReportJob(String jobId, String department) {
+            this.jobId = jobId;
+            this.department = department;
+        }
+
+        ReportJobDTO toDTO() {
+            return new ReportJobDTO(jobId, department, status, submittedAt, startedAt, finishedAt, report, error);
+        }
+    }
+}
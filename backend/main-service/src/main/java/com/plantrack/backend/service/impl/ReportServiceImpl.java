@@ -1,83 +1,72 @@
 package com.plantrack.backend.service.impl;
 
+import com.plantrack.backend.dto.ReportPageDTO;
+import com.plantrack.backend.dto.ReportTrendPointDTO;
+import com.plantrack.backend.dto.WeeklyReportRequest;
+import com.plantrack.backend.feign.NotificationService;
 import com.plantrack.backend.model.*;
 import com.plantrack.backend.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import com.plantrack.backend.service.ReportService;
+import com.plantrack.backend.util.KeysetCursor;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Service
 public class ReportServiceImpl implements ReportService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+    private static final int MAX_PAGE_SIZE = 500;
+    // Open ends of the optional date range
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 1, 1, 0, 0);
 
     @Autowired
     private ReportRepository reportRepository;
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private PlanRepository planRepository;
+    private JdbcTemplate jdbcTemplate;
     @Autowired
-    private MilestoneRepository milestoneRepository;
-    @Autowired
-    private InitiativeRepository initiativeRepository;
+    private NotificationService notificationService;
 
     public Report generateDepartmentReport(String departmentName) {
         logger.info("Generating department report: department={}", departmentName);
         long startTime = System.currentTimeMillis();
         
-        // 1. Find all Users in the Department
-        List<User> deptUsers = userRepository.findAll().stream()
-                .filter(u -> departmentName.equalsIgnoreCase(u.getDepartment()))
-                .collect(Collectors.toList());
+        // 1. All four figures from one aggregate query; no entities are loaded
+        ReportRepository.DepartmentMetrics row = reportRepository.computeDepartmentMetrics(departmentName);
+        int totalUsers = row.getTotalUsers() != null ? row.getTotalUsers().intValue() : 0;
 
-        if (deptUsers.isEmpty()) {
+        if (totalUsers == 0) {
             logger.warn("No users found in department: department={}", departmentName);
             throw new RuntimeException("No users found in department: " + departmentName);
         }
-        
-        logger.debug("Found {} users in department: department={}", deptUsers.size(), departmentName);
-
-        List<Long> userIds = deptUsers.stream().map(User::getUserId).collect(Collectors.toList());
-
-        // 2. Calculate Avg Goal (Plan) Completion
-        // (Assuming a simple: If status is COMPLETED = 100%, else 0% for Plans, or more complex logic)
-        List<Plan> deptPlans = planRepository.findAll().stream()
-                .filter(p -> userIds.contains(p.getUser().getUserId()))
-                .collect(Collectors.toList());
 
-        double avgGoal = deptPlans.isEmpty() ? 0.0 : deptPlans.stream()
-                .mapToDouble(p -> "COMPLETED".equals(p.getStatus()) ? 100.0 : 0.0)
-                .average().orElse(0.0);
+        logger.debug("Found {} users in department: department={}", totalUsers, departmentName);
 
-        // 3. Calculate Avg Milestone Completion (Using the % field we just added!)
-        List<Milestone> deptMilestones = milestoneRepository.findAll().stream()
-                .filter(m -> userIds.contains(m.getPlan().getUser().getUserId()))
-                .collect(Collectors.toList());
+        // 2. Avg Goal (Plan) Completion: COMPLETED = 100%, else 0%
+        double avgGoal = orZero(row.getAvgGoalCompletion());
 
-        double avgMilestone = deptMilestones.isEmpty() ? 0.0 : deptMilestones.stream()
-                .mapToDouble(Milestone::getCompletionPercent)
-                .average().orElse(0.0);
+        // 3. Avg Milestone Completion (milestones without a percentage are skipped)
+        double avgMilestone = orZero(row.getAvgMilestoneCompletion());
 
-        // 4. Calculate Avg Initiative Completion
-        // (Simple: COMPLETED = 100, others = 0)
-        List<Initiative> deptInitiatives = initiativeRepository.findAll().stream()
-                .filter(i -> i.getAssignedUsers() != null && !i.getAssignedUsers().isEmpty() &&
-                        i.getAssignedUsers().stream()
-                                .anyMatch(assignedUser -> userIds.contains(assignedUser.getUserId())))
-                .collect(Collectors.toList());
-
-        double avgInitiative = deptInitiatives.isEmpty() ? 0.0 : deptInitiatives.stream()
-                .mapToDouble(i -> "COMPLETED".equals(i.getStatus()) ? 100.0 : 0.0)
-                .average().orElse(0.0);
+        // 4. Avg Initiative Completion over initiatives with at least one assignee in the department
+        double avgInitiative = orZero(row.getAvgInitiativeCompletion());
 
         // 5. Create and Save Report
-        ReportMetrics metrics = new ReportMetrics(avgGoal, avgMilestone, avgInitiative, deptUsers.size());
+        ReportMetrics metrics = new ReportMetrics(avgGoal, avgMilestone, avgInitiative, totalUsers);
         Report report = new Report(departmentName, metrics);
 
         Report savedReport = reportRepository.save(report);
@@ -95,4 +84,109 @@ public class ReportServiceImpl implements ReportService {
         logger.info("Found {} reports for department: department={}", reports.size(), department);
         return reports;
     }
+
+    public ReportPageDTO getReportPage(String department, LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDateTime rangeFrom = from != null ? from : EARLIEST;
+        LocalDateTime rangeTo = to != null ? to : LATEST;
+
+        // 1. Resume after the cursor position, or start at the newest report in range
+        LocalDateTime cursorDate = rangeTo;
+        Long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            cursorDate = position.getTimestamp();
+            cursorId = position.getId();
+        }
+
+        // 2. One extra row tells whether another page follows
+        List<Report> rows = reportRepository.findPage(department, rangeFrom, rangeTo, cursorDate, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<Report> page = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Report last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getGeneratedDate(), last.getReportId()).encode();
+        }
+        logger.debug("Fetched report page: department={}, reports={}, hasMore={}", department, page.size(), hasMore);
+        return new ReportPageDTO(page, nextCursor, hasMore);
+    }
+
+    public List<ReportTrendPointDTO> getReportTrend(String department, String granularity, LocalDateTime from, LocalDateTime to) {
+        RollupPeriod period;
+        try {
+            period = RollupPeriod.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid granularity: " + granularity + ". Use DAY, WEEK or MONTH.");
+        }
+
+        List<ReportTrendPointDTO> points = new ArrayList<>();
+        for (ReportRepository.TrendPoint row : reportRepository.findTrend(department, period.name(),
+                from != null ? from : EARLIEST, to != null ? to : LATEST)) {
+            points.add(new ReportTrendPointDTO(toLocalDate(row.getPeriodStart()),
+                    row.getReportCount() != null ? row.getReportCount().intValue() : 0,
+                    orZero(row.getAvgGoalCompletion()), orZero(row.getAvgMilestoneCompletion()),
+                    orZero(row.getAvgInitiativeCompletion()), orZero(row.getAvgTotalUsers())));
+        }
+        logger.debug("Fetched report trend: department={}, granularity={}, points={}", department, period, points.size());
+        return points;
+    }
+
+    @Scheduled(cron = "${plantrack.reports.batch-cron:0 0 6 * * MON}")
+    public int generateAllDepartmentReports() {
+        logger.info("Generating reports for all departments");
+        long startTime = System.currentTimeMillis();
+
+        // 1. Every department's metrics from one grouped query
+        List<ReportRepository.DepartmentMetricsRow> rows = reportRepository.computeAllDepartmentMetrics();
+        if (rows.isEmpty()) {
+            logger.warn("No departments found; no reports generated");
+            return 0;
+        }
+
+        // 2. All report rows in one batched insert (same generated date for the whole batch)
+        Timestamp generatedDate = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        ReportRepository.DepartmentMetricsRow lowest = null;
+        double initiativeTotal = 0.0;
+        for (ReportRepository.DepartmentMetricsRow row : rows) {
+            double avgInitiative = orZero(row.getAvgInitiativeCompletion());
+            batch.add(new Object[]{row.getDepartment(), generatedDate,
+                    orZero(row.getAvgGoalCompletion()), orZero(row.getAvgMilestoneCompletion()), avgInitiative,
+                    row.getTotalUsers() != null ? row.getTotalUsers().intValue() : 0});
+            initiativeTotal += avgInitiative;
+            if (lowest == null || avgInitiative < orZero(lowest.getAvgInitiativeCompletion())) {
+                lowest = row;
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reports (scope, generated_date, avg_goal_completion, " +
+                "avg_milestone_completion, avg_initiative_completion, total_users) VALUES (?, ?, ?, ?, ?, ?)", batch);
+
+        // 3. One weekly-report notification per admin
+        String summary = String.format("%d department reports generated. Avg initiative completion %.1f%%; lowest: %s (%.1f%%).",
+                rows.size(), initiativeTotal / rows.size(), lowest.getDepartment(), orZero(lowest.getAvgInitiativeCompletion()));
+        for (User admin : userRepository.findByRole("ADMIN")) {
+            try {
+                notificationService.notifyWeeklyReport(new WeeklyReportRequest(admin.getUserId(), summary));
+            } catch (Exception e) {
+                logger.error("Failed to send weekly report notification: adminUserId={}", admin.getUserId(), e);
+            }
+        }
+
+        logger.info("Department reports generated: reports={}, duration={}ms", rows.size(), System.currentTimeMillis() - startTime);
+        return rows.size();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) return date;
+        if (value instanceof java.sql.Date date) return date.toLocalDate();
+        if (value instanceof java.sql.Timestamp timestamp) return timestamp.toLocalDateTime().toLocalDate();
+        return value != null ? LocalDate.parse(value.toString()) : null;
+    }
+
+    private static double orZero(Double value) {
+        return value != null ? value : 0.0;
+    }
 }
\ No newline at end of file
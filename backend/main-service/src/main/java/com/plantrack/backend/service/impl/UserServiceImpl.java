@@ -1,5 +1,9 @@
 package com.plantrack.backend.service.impl; 
     
+import com.plantrack.backend.dto.MentionSuggestionDTO;
+import com.plantrack.backend.event.AnalyticsDataChangedEvent;
+import com.plantrack.backend.event.UserChangedEvent;
+import com.plantrack.backend.mention.UserMentionIndex;
 import com.plantrack.backend.model.User;    
 import com.plantrack.backend.repository.UserRepository;
 import com.plantrack.backend.service.UserService;
@@ -10,13 +14,21 @@ import com.plantrack.backend.repository.InitiativeRepository;
 import jakarta.persistence.EntityManager;    
 import jakarta.transaction.Transactional;    
 import org.springframework.beans.factory.annotation.Autowired;    
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;    
 import org.springframework.stereotype.Service;    
 import com.plantrack.backend.service.AuditService;
-import java.util.List;    
+import com.plantrack.backend.service.InitiativeStatsService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;    
     
 @Service    
 public class UserServiceImpl implements UserService {    
+
+    private static final int MAX_MENTION_SUGGESTIONS = 50;
     
     @Autowired    
     private UserRepository userRepository;    
@@ -42,6 +54,15 @@ public class UserServiceImpl implements UserService {
     @Autowired    
     private EntityManager entityManager;    
 
+    @Autowired
+    private InitiativeStatsService initiativeStatsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserMentionIndex userMentionIndex;
+
     public User createUser(User user) {  
         // Check if email already exists  
         if (userRepository.findByEmail(user.getEmail()).isPresent()) {  
@@ -52,7 +73,9 @@ public class UserServiceImpl implements UserService {
         if (user.getPassword() != null && !user.getPassword().isEmpty()) {  
             user.setPassword(passwordEncoder.encode(user.getPassword()));  
         }  
-        User savedUser = userRepository.save(user);  
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("USER", savedUser.getUserId(), Collections.singleton(savedUser)));  
+        eventPublisher.publishEvent(UserChangedEvent.saved(savedUser));
           
         // Audit Log  
         auditService.logCreate("USER", savedUser.getUserId(),  
@@ -74,6 +97,7 @@ public class UserServiceImpl implements UserService {
     public User updateUser(Long id, User userDetails) {    
         User user = userRepository.findById(id)    
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));    
+        String previousDepartment = user.getDepartment();
             
         if (userDetails.getName() != null) {    
             user.setName(userDetails.getName());    
@@ -95,7 +119,13 @@ public class UserServiceImpl implements UserService {
             user.setStatus(userDetails.getStatus());    
         }    
             
-        User savedUser = userRepository.save(user);    
+        User savedUser = userRepository.save(user);
+        // Both the old and the new department see this user's rows change
+        Set<String> departments = new HashSet<>();
+        if (previousDepartment != null) departments.add(previousDepartment);
+        if (savedUser.getDepartment() != null) departments.add(savedUser.getDepartment());
+        eventPublisher.publishEvent(new AnalyticsDataChangedEvent("USER", id, Collections.singleton(id), departments));    
+        eventPublisher.publishEvent(UserChangedEvent.saved(savedUser));
             
         // Audit Log    
         auditService.logUpdate("USER", id, "Updated user: " + savedUser.getName() + " (" + savedUser.getEmail() + ")");    
@@ -103,6 +133,21 @@ public class UserServiceImpl implements UserService {
         return savedUser;    
     }    
     
+    // Autocomplete for @mentions: top matches from the in-memory index, the initiative's assignees first
+    public List<MentionSuggestionDTO> suggestMentions(String prefix, Long initiativeId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_MENTION_SUGGESTIONS));
+        Set<Long> assigneeIds = initiativeId != null
+                ? new HashSet<>(initiativeRepository.findAssigneeIds(initiativeId))
+                : Collections.emptySet();
+
+        List<MentionSuggestionDTO> suggestions = new ArrayList<>();
+        for (UserMentionIndex.Candidate candidate : userMentionIndex.complete(prefix, assigneeIds, size)) {
+            suggestions.add(new MentionSuggestionDTO(candidate.getUserId(), candidate.getName(), candidate.getEmail(),
+                    candidate.getRole(), candidate.getDepartment(), assigneeIds.contains(candidate.getUserId())));
+        }
+        return suggestions;
+    }
+
     // FIXED: Handle foreign key constraints properly    
     @Transactional    
     public void deleteUser(Long id) {    
@@ -112,6 +157,17 @@ public class UserServiceImpl implements UserService {
         String userName = user.getName();    
         String userEmail = user.getEmail();    
             
+        // Step 0: Take this user's assignments (and those under plans they own) off the initiative counters
+        initiativeStatsService.removeUser(id);
+
+        // Step 0b: Delete badges awarded to this user and their rank history
+        entityManager.createNativeQuery("DELETE FROM user_badges WHERE user_id = :userId")
+            .setParameter("userId", id)
+            .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM user_rank_snapshots WHERE user_id = :userId")
+            .setParameter("userId", id)
+            .executeUpdate();
+
         // Step 1: Delete notifications for this user    
         entityManager.createNativeQuery("DELETE FROM notifications WHERE user_id = :userId")    
             .setParameter("userId", id)    
@@ -184,7 +240,10 @@ public class UserServiceImpl implements UserService {
         }    
             
         // Step 7: Finally delete the user    
-        userRepository.deleteById(id);    
+        userRepository.deleteById(id);
+        // Owned plans were removed by native deletes above; their reach is not tracked
+        eventPublisher.publishEvent(AnalyticsDataChangedEvent.everything("USER", id));    
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
             
         // Audit Log    
         auditService.logDelete("USER", id, "Deleted user: " + userName + " (" + userEmail + ")");    
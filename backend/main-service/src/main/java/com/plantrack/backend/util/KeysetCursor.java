@@ -0,0 +1,41 @@
+package com.plantrack.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination ordered by (timestamp DESC, id DESC): URL-safe
+ * Base64 of "timestamp,id" for the last row of a page.
+ */
+public final class KeysetCursor {
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public Long getId() { return id; }
+
+    public String encode() {
+        String position = timestamp + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(position[0]), Long.parseLong(position[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- Migration Script: Full-Text Index for Audit Log Search
+-- Creates the FULLTEXT index behind GET /api/audit-logs/search. JPA's @Index cannot declare
+-- FULLTEXT, so ddl-auto never creates it. On a large audit_logs table this is a long DDL:
+-- run it once, from one place, in a maintenance window (search reports an error until it exists).
+
+-- Step 1: Create the index (InnoDB keeps it current on every insert from then on)
+ALTER TABLE audit_logs ADD FULLTEXT INDEX ft_audit_text (details, old_value, new_value);
+
+-- Step 2: Verify
+SELECT index_name, column_name
+FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'audit_logs' AND index_name = 'ft_audit_text';
@@ -0,0 +1,102 @@
+package com.plantrack.backend.analytics;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.plantrack.backend.dto.BadgeDTO;
+import com.plantrack.backend.model.UserBadge;
+import com.plantrack.backend.repository.UserBadgeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BadgeEngineTest {
+
+    @Mock
+    private UserBadgeRepository userBadgeRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private BadgeEngine badgeEngine;
+
+    @Test
+    void testEvaluate_KeepsStoredAwardDatesWithoutWriting() {
+        // Alice: fast, perfect, busy; Bob: slow, half done
+        UserRanking alice = ranking(1L, "IT", 10, 10, 4.0, 1, 1);
+        UserRanking bob = ranking(2L, "IT", 4, 2, 1.0, 2, 2);
+        RankingTable rankings = new RankingTable(Arrays.asList(alice, bob));
+
+        LocalDateTime firstEarned = LocalDateTime.of(2024, 1, 15, 9, 0);
+        UserBadge stored = new UserBadge();
+        stored.setUserId(1L);
+        stored.setBadgeId("quality_champion");
+        stored.setAwardedAt(firstEarned);
+        when(userBadgeRepository.findByUserIdIn(Arrays.asList(1L, 2L))).thenReturn(Collections.singletonList(stored));
+
+        Map<Long, List<BadgeDTO>> badges = badgeEngine.evaluate(rankings);
+
+        List<BadgeDTO> aliceBadges = badges.get(1L);
+        assertTrue(aliceBadges.stream().anyMatch(b -> b.getBadgeId().equals("speed_demon")));
+        assertTrue(aliceBadges.stream().anyMatch(b -> b.getBadgeId().equals("rising_star")));
+        assertTrue(aliceBadges.stream().anyMatch(b -> b.getBadgeId().equals("team_player")));
+        BadgeDTO quality = aliceBadges.stream()
+                .filter(b -> b.getBadgeId().equals("quality_champion")).findFirst().get();
+        assertEquals(firstEarned, quality.getEarnedDate());
+        assertFalse(badges.containsKey(2L));
+
+        // Reads never store awards
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordAwards_StoresOnlyNewAwardsInOneBatch() {
+        UserRanking alice = ranking(1L, "IT", 10, 10, 4.0, 1, 1);
+        UserRanking bob = ranking(2L, "IT", 4, 2, 1.0, 2, 2);
+        RankingTable rankings = new RankingTable(Arrays.asList(alice, bob));
+
+        UserBadge stored = new UserBadge();
+        stored.setUserId(1L);
+        stored.setBadgeId("quality_champion");
+        stored.setAwardedAt(LocalDateTime.of(2024, 1, 15, 9, 0));
+        when(userBadgeRepository.findByUserIdIn(Arrays.asList(1L, 2L))).thenReturn(Collections.singletonList(stored));
+
+        Set<Long> awardedUsers = badgeEngine.recordAwards(rankings);
+
+        // Alice earns speed_demon, perfect_week, rising_star and team_player; quality_champion is already stored
+        assertEquals(Set.of(1L), awardedUsers);
+        ArgumentCaptor<List<Object[]>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), inserted.capture());
+        assertEquals(4, inserted.getValue().size());
+    }
+
+    private UserRanking ranking(Long userId, String department, int assigned, int completed,
+                                double tasksPerWeek, int rank, int departmentRank) {
+        double completionRate = ((double) completed / assigned) * 100;
+        UserRanking row = new UserRanking(userId, "User " + userId, department, assigned, completed,
+                completionRate, tasksPerWeek, 0.0, completionRate, 0.0, 0.0, "CONSISTENT");
+        row.setRank(rank);
+        row.setDepartmentRank(departmentRank);
+        return row;
+    }
+}
@@ -0,0 +1,176 @@
+package com.plantrack.backend.analytics;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.plantrack.backend.dto.InitiativeCountsDTO;
+import com.plantrack.backend.model.RollupPeriod;
+import com.plantrack.backend.model.User;
+import com.plantrack.backend.model.UserRankSnapshot;
+import com.plantrack.backend.repository.UserRankSnapshotRepository;
+import com.plantrack.backend.repository.UserRepository;
+import com.plantrack.backend.service.InitiativeStatsService;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceRankingEngineTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private InitiativeStatsService initiativeStatsService;
+
+    @Mock
+    private UserRankSnapshotRepository snapshotRepository;
+
+    @InjectMocks
+    private PerformanceRankingEngine rankingEngine;
+
+    @Test
+    void testComputeRankings_RanksGloballyAndByDepartment() {
+        when(userRepository.findAll()).thenReturn(Arrays.asList(
+                user(1L, "Alice", "IT"),
+                user(2L, "Bob", "IT"),
+                user(3L, "Carol", "HR"),
+                user(4L, "Dan", null)));
+        Map<Long, InitiativeCountsDTO> counts = new HashMap<>();
+        counts.put(1L, count(10, 5));
+        counts.put(2L, count(4, 4));
+        counts.put(3L, count(10, 10));
+        when(initiativeStatsService.getAllCounts()).thenReturn(counts);
+
+        // Carol completed 2 initiatives in each of the last 8 weeks: steady pace
+        Map<LocalDate, Integer> carolWeeks = new HashMap<>();
+        LocalDate week = RollupPeriod.WEEK.start(LocalDate.now());
+        for (int i = 0; i < 8; i++) {
+            carolWeeks.put(week, 2);
+            week = week.minusWeeks(1);
+        }
+        Map<Long, Map<LocalDate, Integer>> completions = new HashMap<>();
+        completions.put(3L, carolWeeks);
+        when(initiativeStatsService.getAllCompletions(eq(RollupPeriod.WEEK), any())).thenReturn(completions);
+
+        RankingTable rankings = rankingEngine.computeRankings();
+
+        List<UserRanking> ranked = rankings.getRanked();
+        assertEquals(4, ranked.size());
+        assertEquals(3L, ranked.get(0).getUserId());
+        assertEquals(2L, ranked.get(1).getUserId());
+        assertEquals(1L, ranked.get(2).getUserId());
+        assertEquals(4L, ranked.get(3).getUserId());
+
+        assertEquals(1, rankings.find(3L).get().getDepartmentRank());
+        assertEquals(1, rankings.find(2L).get().getDepartmentRank());
+        assertEquals(2, rankings.find(1L).get().getDepartmentRank());
+        assertEquals(2, rankings.getDepartment("IT").size());
+
+        UserRanking carol = rankings.find(3L).get();
+        assertEquals(2.0, carol.getAverageTasksPerWeek());
+        assertEquals(100.0, carol.getConsistencyScore(), 0.001);
+        assertEquals(0.0, rankings.find(2L).get().getConsistencyScore());
+
+        UserRanking dan = rankings.find(4L).get();
+        assertEquals(0, dan.getTasksAssigned());
+        assertEquals(0.0, dan.getCompletionRate());
+        assertEquals("NEEDS_IMPROVEMENT", dan.getPerformanceTier());
+
+        // Counters read once regardless of user count
+        verify(initiativeStatsService, times(1)).getAllCounts();
+    }
+
+    @Test
+    void testComputeRankings_TiesKeepUserIdOrder() {
+        when(userRepository.findAll()).thenReturn(Arrays.asList(
+                user(7L, "Gina", "IT"),
+                user(5L, "Eve", "IT")));
+        when(initiativeStatsService.getAllCounts()).thenReturn(Collections.emptyMap());
+
+        RankingTable rankings = rankingEngine.computeRankings();
+
+        assertEquals(5L, rankings.getRanked().get(0).getUserId());
+        assertEquals(1, rankings.find(5L).get().getRank());
+        assertEquals(2, rankings.find(7L).get().getRank());
+        assertTrue(rankings.find(99L).isEmpty());
+    }
+
+    @Test
+    void testComputeRankings_ComparesAgainstLatestSnapshot() {
+        when(userRepository.findAll()).thenReturn(Arrays.asList(
+                user(1L, "Alice", "IT"),
+                user(2L, "Bob", "IT")));
+        Map<Long, InitiativeCountsDTO> counts = new HashMap<>();
+        counts.put(1L, count(10, 10));
+        counts.put(2L, count(10, 5));
+        when(initiativeStatsService.getAllCounts()).thenReturn(counts);
+
+        // Last week Bob led and Alice scored half of what she scores now
+        LocalDate lastWeek = RollupPeriod.WEEK.previous(RollupPeriod.WEEK.start(LocalDate.now()));
+        when(snapshotRepository.findLatestPeriodStart()).thenReturn(lastWeek);
+        when(snapshotRepository.findByPeriodStart(lastWeek)).thenReturn(Arrays.asList(
+                snapshot(1L, lastWeek, 30.0, 2),
+                snapshot(2L, lastWeek, 50.0, 1)));
+
+        RankingTable rankings = rankingEngine.computeRankings();
+
+        UserRanking alice = rankings.find(1L).get();
+        assertEquals(1, alice.getRank());
+        assertEquals(2, alice.getPreviousRank());
+        assertEquals(1, alice.getRankChange());
+        assertEquals(100.0, alice.getImprovementPercentage(), 0.001);
+        assertEquals(-1, rankings.find(2L).get().getRankChange());
+    }
+
+    @Test
+    void testComputeRankings_WithoutHistoryKeepsCurrentRanks() {
+        when(userRepository.findAll()).thenReturn(Collections.singletonList(user(1L, "Alice", "IT")));
+        when(initiativeStatsService.getAllCounts()).thenReturn(Collections.emptyMap());
+
+        UserRanking alice = rankingEngine.computeRankings().find(1L).get();
+
+        assertEquals(alice.getRank(), alice.getPreviousRank());
+        assertEquals(0.0, alice.getImprovementPercentage());
+    }
+
+    private UserRankSnapshot snapshot(Long userId, LocalDate periodStart, double score, int rank) {
+        UserRankSnapshot snapshot = new UserRankSnapshot();
+        snapshot.setUserId(userId);
+        snapshot.setPeriodStart(periodStart);
+        snapshot.setOverallScore(score);
+        snapshot.setGlobalRank(rank);
+        snapshot.setDepartmentRank(rank);
+        return snapshot;
+    }
+
+    private User user(Long id, String name, String department) {
+        User user = new User();
+        user.setUserId(id);
+        user.setName(name);
+        user.setDepartment(department);
+        user.setStatus("ACTIVE");
+        return user;
+    }
+
+    private InitiativeCountsDTO count(int assigned, int completed) {
+        Map<String, Integer> byStatus = new HashMap<>();
+        byStatus.put("COMPLETED", completed);
+        byStatus.put("IN_PROGRESS", assigned - completed);
+        return new InitiativeCountsDTO(assigned, completed, byStatus);
+    }
+}
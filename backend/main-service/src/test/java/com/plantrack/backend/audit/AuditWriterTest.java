@@ -0,0 +1,73 @@
+package com.plantrack.backend.audit;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.plantrack.backend.model.AuditLog;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection businessConnection;
+
+    @Mock
+    private Connection fallbackConnection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void testWrite_QueueFullAfterCommit_CommitsFallbackInsertInItsOwnTransaction() throws Exception {
+        when(dataSource.getConnection()).thenReturn(businessConnection, fallbackConnection);
+        when(fallbackConnection.prepareStatement(AuditWriter.INSERT_SQL)).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(1);
+
+        // Never started, so the queue accepts nothing and every entry takes the caller fallback
+        AuditWriter auditWriter = new AuditWriter("write-behind", 1, 500, 200, 0,
+                journalDir.resolve("journal.ndjson").toString(), journalDir.resolve("dead-letter.ndjson").toString());
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        ReflectionTestUtils.setField(auditWriter, "jdbcTemplate", new JdbcTemplate(dataSource));
+        ReflectionTestUtils.setField(auditWriter, "transactionManager", transactionManager);
+
+        AuditLog entry = new AuditLog("UPDATE", "admin@corp.com", "PLAN", 7L, "Updated plan");
+        entry.setTimestamp(LocalDateTime.of(2026, 1, 5, 10, 0));
+        entry.setOldValue("ACTIVE");
+        entry.setNewValue("COMPLETED");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> auditWriter.write(entry));
+
+        // The business transaction commits first; the entry is inserted and committed on a connection of its own
+        verify(businessConnection).commit();
+        verify(businessConnection, never()).prepareStatement(anyString());
+        InOrder fallback = inOrder(fallbackConnection, statement);
+        fallback.verify(fallbackConnection).prepareStatement(AuditWriter.INSERT_SQL);
+        fallback.verify(statement).executeUpdate();
+        fallback.verify(fallbackConnection).commit();
+    }
+}
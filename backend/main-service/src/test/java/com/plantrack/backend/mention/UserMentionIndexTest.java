@@ -0,0 +1,100 @@
+package com.plantrack.backend.mention;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.plantrack.backend.model.User;
+import com.plantrack.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserMentionIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserMentionIndex userMentionIndex;
+
+    @Test
+    void testResolve_PrefersEmailUsernameThenLowestIdNameMatch() {
+        when(userRepository.findAll()).thenReturn(Arrays.asList(
+                user(1L, "Johnny Walker", "walker@corp.com"),
+                user(2L, "John Smith", "jsmith@corp.com"),
+                user(3L, "Jo", "john@corp.com"),
+                user(4L, "Ann", "ann.lee@corp.com")));
+
+        // Exact email username beats the lower-id name match
+        assertEquals(3L, userMentionIndex.resolve("John").getUserId());
+        // Name contains the mention: lowest id wins
+        assertEquals(1L, userMentionIndex.resolve("walk").getUserId());
+        assertEquals(2L, userMentionIndex.resolve("smi").getUserId());
+        // Mention contains the whole name
+        assertEquals(4L, userMentionIndex.resolve("annie").getUserId());
+        assertNull(userMentionIndex.resolve("nobody"));
+
+        // Loaded once for every lookup
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testPutAndRemove_KeepIndexCurrentWithoutReload() {
+        when(userRepository.findAll()).thenReturn(Arrays.asList(user(1L, "Alice Brown", "alice@corp.com")));
+        assertEquals(1L, userMentionIndex.resolve("alice").getUserId());
+
+        // Renamed and re-addressed
+        userMentionIndex.put(user(1L, "Alicia Green", "agreen@corp.com"));
+        assertNull(userMentionIndex.resolve("brown"));
+        assertEquals(1L, userMentionIndex.resolve("agreen").getUserId());
+
+        userMentionIndex.put(user(5L, "Bob Stone", "bob@corp.com"));
+        assertEquals(5L, userMentionIndex.resolve("bob").getUserId());
+
+        userMentionIndex.remove(5L);
+        assertNull(userMentionIndex.resolve("bob"));
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testComplete_RanksPreferredThenManagersThenOthers() {
+        User manager = user(3L, "Jordan Lee", "jlee@corp.com");
+        manager.setRole("MANAGER");
+        User inactive = user(4L, "Joan Inactive", "joan@corp.com");
+        inactive.setStatus("INACTIVE");
+        when(userRepository.findAll()).thenReturn(Arrays.asList(
+                user(1L, "Jo Adams", "jadams@corp.com"),
+                user(2L, "Zoe Jones", "zoe@corp.com"),
+                manager,
+                inactive,
+                user(5L, "Mark Stone", "mstone@corp.com")));
+
+        // "jo" matches first names, a last name and email usernames; Zoe is the assignee
+        List<UserMentionIndex.Candidate> suggestions = userMentionIndex.complete("Jo", Set.of(2L), 10);
+        assertEquals(Arrays.asList(2L, 3L, 1L), suggestions.stream().map(UserMentionIndex.Candidate::getUserId).toList());
+
+        // Top-k stops early
+        assertEquals(Arrays.asList(2L, 3L),
+                userMentionIndex.complete("jo", Set.of(2L), 2).stream().map(UserMentionIndex.Candidate::getUserId).toList());
+    }
+
+    private User user(Long id, String name, String email) {
+        User user = new User();
+        user.setUserId(id);
+        user.setName(name);
+        user.setEmail(email);
+        user.setStatus("ACTIVE");
+        user.setRole("EMPLOYEE");
+        return user;
+    }
+}
@@ -22,8 +22,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.plantrack.backend.mention.UserMentionIndex;
 import com.plantrack.backend.model.User;
 import com.plantrack.backend.repository.UserRepository;
 import com.plantrack.backend.service.impl.UserServiceImpl;
@@ -45,6 +47,15 @@ class UserServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private InitiativeStatsService initiativeStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserMentionIndex userMentionIndex;
+
     @InjectMocks
     private UserServiceImpl userService;
 
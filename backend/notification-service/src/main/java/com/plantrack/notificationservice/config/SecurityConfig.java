@@ -3,6 +3,7 @@ package com.plantrack.notificationservice.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -25,6 +26,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 
+                        // Background calls from main-service carry ROLE_SERVICE: they may create notifications, nothing else
+                        .requestMatchers(HttpMethod.POST, "/api/notifications/create", "/api/notifications/create-batch",
+                                "/api/notifications/initiative-assigned", "/api/notifications/status-update",
+                                "/api/notifications/weekly-report")
+                        .hasAnyRole("SERVICE", "EMPLOYEE", "MANAGER", "ADMIN")
+
                         // All authenticated users can access their own notifications
                         // Use Ant-style patterns: * matches one segment, ** matches multiple
                         .requestMatchers("/api/notifications/**").hasAnyRole("EMPLOYEE", "MANAGER", "ADMIN")
@@ -65,6 +65,13 @@ public class NotificationController {
         );
     }
 
+    // Many notifications in one call, e.g. every recipient of a comment
+    @PostMapping("/create-batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void createNotifications(@RequestBody List<CreateNotificationRequest> requests) {
+        notificationService.createNotifications(requests);
+    }
+
     @PostMapping("/initiative-assigned")
     @ResponseStatus(HttpStatus.CREATED)
     public void notifyInitiativeAssigned(@RequestBody InitiativeAssignedRequest req) {
@@ -1,5 +1,6 @@
 package com.plantrack.notificationservice.service;
 
+import com.plantrack.notificationservice.dto.CreateNotificationRequest;
 import com.plantrack.notificationservice.model.Notification;
 import com.plantrack.notificationservice.repository.NotificationRepository;
 import org.slf4j.Logger;
@@ -98,6 +99,29 @@ public class NotificationService {
         }
     }
 
+    public void createNotifications(List<CreateNotificationRequest> requests) {
+        // Stored together in one transaction (saveAll's own), and pushed only once that has committed
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(requests.size());
+        for (CreateNotificationRequest req : requests) {
+            Notification notification = new Notification();
+            notification.setUser(req.getUserId());
+            notification.setType(req.getType());
+            notification.setMessage(req.getMessage());
+            notification.setEntityType(req.getEntityType());
+            notification.setEntityId(req.getEntityId());
+            notification.setStatus("UNREAD");
+            notification.setCreatedDate(now);
+            notifications.add(notification);
+        }
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+
+        for (Notification notification : saved) {
+            pushNotificationToUser(notification.getUser(), notification);
+        }
+        logger.info("Notification batch created and pushed: count={}", saved.size());
+    }
+
     public void notifyInitiativeAssigned(Long employeeUserId, String initiativeTitle, Long initiativeId) {
         createNotification(employeeUserId, "ASSIGNMENT", "You have been assigned to: " + initiativeTitle, "INITIATIVE", initiativeId);
     }